@@ -0,0 +1,25 @@
+package com.policymanagement.policymanagementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "policy.async-writes")
+public class AsyncWriteConfig {
+
+    private boolean enabled = false;
+    private int queueCapacity = 10_000;
+    private int maxBatchSize = 500;
+    private Duration maxBatchDelay = Duration.ofMillis(5);
+    private int updateWriters = 4;
+    private Duration statusRetention = Duration.ofMinutes(10);
+    private long maximumStatuses = 100_000;
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+}
@@ -0,0 +1,22 @@
+package com.policymanagement.policymanagementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "policy.cache")
+public class CacheConfig {
+
+    private boolean enabled = true;
+    private long maximumPolicies = 10_000;
+    private long maximumInsuredPersons = 1_000_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(5);
+    private Duration insuredPersonsExpireAfterAccess = Duration.ofMinutes(30);
+
+}
@@ -0,0 +1,24 @@
+package com.policymanagement.policymanagementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "policy.change-stream")
+public class ChangeStreamConfig {
+
+    private boolean enabled = false;
+    private String name = "policy_change";
+    private Duration maxAwaitTime = Duration.ofSeconds(1);
+    private Duration resumeTokenSaveInterval = Duration.ofSeconds(1);
+    private Duration retryDelay = Duration.ofSeconds(5);
+    private Duration sseTimeout = Duration.ofMinutes(30);
+    private int sseBufferSize = 1000;
+
+}
@@ -0,0 +1,19 @@
+package com.policymanagement.policymanagementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "policy.coalescing")
+public class CoalescingConfig {
+
+    private boolean enabled = true;
+    private Duration timeout = Duration.ofSeconds(5);
+
+}
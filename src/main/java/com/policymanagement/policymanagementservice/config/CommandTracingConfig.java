@@ -0,0 +1,20 @@
+package com.policymanagement.policymanagementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "mongodb.command-tracing")
+public class CommandTracingConfig {
+
+    private boolean enabled = false;
+    private Duration slowThreshold = Duration.ofMillis(100);
+    private boolean explain = false;
+
+}
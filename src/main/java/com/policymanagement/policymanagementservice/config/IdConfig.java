@@ -0,0 +1,20 @@
+package com.policymanagement.policymanagementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "policy.id")
+public class IdConfig {
+
+    private String generator = "sequence";
+    private String sequenceName = "policy_id";
+    private long blockSize = 10_000;
+    private int nodeId = 0;
+    private int maxAttempts = 5;
+
+}
@@ -0,0 +1,18 @@
+package com.policymanagement.policymanagementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "mongodb.indexes")
+public class IndexConfig {
+
+    private boolean enabled = true;
+    private boolean createMissing = true;
+    private boolean strict = false;
+
+}
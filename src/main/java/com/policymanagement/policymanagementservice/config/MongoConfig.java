@@ -2,13 +2,34 @@ package com.policymanagement.policymanagementservice.config;
 
 import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
+import com.policymanagement.policymanagementservice.PolicyManagementServiceApplication;
+import com.policymanagement.policymanagementservice.repository.CommandTracingListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.mongodb.MongoMetricsConnectionPoolListener;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.bson.types.Decimal128;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.mongodb.config.AbstractMongoClientConfiguration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @Getter
@@ -19,20 +40,131 @@ public class MongoConfig extends AbstractMongoClientConfiguration {
     private String databaseName;
     private String connectionStringValue;
     private String quotesCollection;
+    private Integer connectionPoolMinSize;
+    private Integer connectionPoolMaxSize;
+    private Integer connectionPoolMaxConnecting;
+    private Duration connectionPoolMaxWaitTime;
+    private Duration connectionPoolMaxIdleTime;
+    private Duration connectTimeout;
+    private Duration socketTimeout;
+    private Duration serverSelectionTimeout;
+    private String readPreference;
+    private String writeConcern;
+    private List<String> compressors = new ArrayList<>();
+    private String policyInfoReadPreference;
+    private Duration policyInfoMaxStaleness;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CommandTracingConfig commandTracingConfig;
 
     @Override
     protected String getDatabaseName() {
         return databaseName;
     }
 
+    @Override
+    protected Collection<String> getMappingBasePackages() {
+        return Collections.singleton(PolicyManagementServiceApplication.class.getPackageName());
+    }
+
+    @Override
+    protected void configureConverters(MongoCustomConversions.MongoConverterConfigurationAdapter adapter) {
+        adapter.registerConverter(new BigDecimalToDecimal128Converter());
+        adapter.registerConverter(new Decimal128ToBigDecimalConverter());
+    }
+
     @Override
     public MongoClient mongoClient() {
+        return MongoClients.create(clientSettings());
+    }
+
+    public MongoClientSettings clientSettings() {
         ConnectionString connectionString = new ConnectionString(connectionStringValue);
-        MongoClientSettings mongoClientSettings = MongoClientSettings.builder()
+        var builder = MongoClientSettings.builder()
                 .applyConnectionString(connectionString)
-                .build();
+                .applyToConnectionPoolSettings(pool -> {
+                    if (connectionPoolMinSize != null) {
+                        pool.minSize(connectionPoolMinSize);
+                    }
+                    if (connectionPoolMaxSize != null) {
+                        pool.maxSize(connectionPoolMaxSize);
+                    }
+                    if (connectionPoolMaxConnecting != null) {
+                        pool.maxConnecting(connectionPoolMaxConnecting);
+                    }
+                    if (connectionPoolMaxWaitTime != null) {
+                        pool.maxWaitTime(connectionPoolMaxWaitTime.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                    if (connectionPoolMaxIdleTime != null) {
+                        pool.maxConnectionIdleTime(connectionPoolMaxIdleTime.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                    pool.addConnectionPoolListener(new MongoMetricsConnectionPoolListener(meterRegistry));
+                })
+                .applyToSocketSettings(socket -> {
+                    if (connectTimeout != null) {
+                        socket.connectTimeout(connectTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                    if (socketTimeout != null) {
+                        socket.readTimeout(socketTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                })
+                .applyToClusterSettings(cluster -> {
+                    if (serverSelectionTimeout != null) {
+                        cluster.serverSelectionTimeout(serverSelectionTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                    }
+                });
+
+        if (commandTracingConfig.isEnabled()) {
+            builder.addCommandListener(new CommandTracingListener(meterRegistry, commandTracingConfig, this::mongoClient));
+        }
+        if (readPreference != null) {
+            builder.readPreference(ReadPreference.valueOf(readPreference));
+        }
+        if (writeConcern != null) {
+            builder.writeConcern(WriteConcern.valueOf(writeConcern));
+        }
+        if (!compressors.isEmpty()) {
+            builder.compressorList(compressors.stream().map(MongoConfig::toCompressor).toList());
+        }
+        return builder.build();
+    }
+
+    public ReadPreference policyInfoReadPreference() {
+        if (policyInfoReadPreference == null) {
+            return ReadPreference.primary();
+        }
+        if (policyInfoMaxStaleness == null || ReadPreference.primary().getName().equalsIgnoreCase(policyInfoReadPreference)) {
+            return ReadPreference.valueOf(policyInfoReadPreference);
+        }
+        return ReadPreference.valueOf(policyInfoReadPreference, Collections.emptyList(), policyInfoMaxStaleness.toSeconds(), TimeUnit.SECONDS);
+    }
+
+    private static MongoCompressor toCompressor(String name) {
+        return switch (name.toLowerCase()) {
+            case "zstd" -> MongoCompressor.createZstdCompressor();
+            case "snappy" -> MongoCompressor.createSnappyCompressor();
+            case "zlib" -> MongoCompressor.createZlibCompressor();
+            default -> throw new IllegalArgumentException("Unsupported MongoDB compressor: " + name);
+        };
+    }
+
+    @WritingConverter
+    static class BigDecimalToDecimal128Converter implements Converter<BigDecimal, Decimal128> {
+        @Override
+        public Decimal128 convert(BigDecimal source) {
+            return new Decimal128(source);
+        }
+    }
 
-        return MongoClients.create(mongoClientSettings);
+    @ReadingConverter
+    static class Decimal128ToBigDecimalConverter implements Converter<Decimal128, BigDecimal> {
+        @Override
+        public BigDecimal convert(Decimal128 source) {
+            return source.bigDecimalValue();
+        }
     }
 
-}
\ No newline at end of file
+}
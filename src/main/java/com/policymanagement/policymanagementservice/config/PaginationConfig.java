@@ -0,0 +1,17 @@
+package com.policymanagement.policymanagementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "policy.pagination")
+public class PaginationConfig {
+
+    private int defaultPageSize = 1000;
+    private int maxPageSize = 10000;
+
+}
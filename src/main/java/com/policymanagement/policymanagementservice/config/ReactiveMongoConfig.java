@@ -0,0 +1,30 @@
+package com.policymanagement.policymanagementservice.config;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import com.policymanagement.policymanagementservice.repository.reactive.ReactivePolicyDataRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.SimpleReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+
+@Configuration
+@Profile("reactive")
+@EnableReactiveMongoRepositories(basePackageClasses = ReactivePolicyDataRepository.class)
+public class ReactiveMongoConfig {
+
+    @Bean
+    public MongoClient reactiveMongoClient(MongoConfig mongoConfig) {
+        return MongoClients.create(mongoConfig.clientSettings());
+    }
+
+    @Bean
+    public ReactiveMongoTemplate reactiveMongoTemplate(MongoClient reactiveMongoClient, MongoConfig mongoConfig, MappingMongoConverter mappingMongoConverter) {
+        var databaseFactory = new SimpleReactiveMongoDatabaseFactory(reactiveMongoClient, mongoConfig.getDatabaseName());
+        return new ReactiveMongoTemplate(databaseFactory, mappingMongoConverter);
+    }
+
+}
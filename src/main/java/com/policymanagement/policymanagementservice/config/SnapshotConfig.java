@@ -0,0 +1,18 @@
+package com.policymanagement.policymanagementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "policy.snapshots")
+public class SnapshotConfig {
+
+    private boolean enabled = false;
+    private boolean backfillOnStartup = false;
+    private int backfillBatchSize = 1000;
+
+}
@@ -0,0 +1,26 @@
+package com.policymanagement.policymanagementservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "policy.storage")
+public class StorageConfig {
+
+    public static final String FULL_MODE = "full";
+    public static final String DELTA_MODE = "delta";
+
+    private String mode = FULL_MODE;
+    private int checkpointInterval = 16;
+    private boolean migrateOnStartup = false;
+    private int migrationBatchSize = 1000;
+
+    public boolean isDeltaMode() {
+        return DELTA_MODE.equalsIgnoreCase(mode);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.policymanagement.policymanagementservice.data.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class PolicyInfoRequestData {
+    private String policyId;
+    private String requestDate;
+}
@@ -0,0 +1,26 @@
+package com.policymanagement.policymanagementservice.data.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AsyncWriteResponse {
+    private String requestId;
+    private String policyId;
+    private AsyncWriteState state;
+    private String statusUrl;
+    private Integer status;
+    private BaseResponseData policy;
+    private String message;
+
+    public enum AsyncWriteState {
+        ACCEPTED, COMPLETED, FAILED
+    }
+}
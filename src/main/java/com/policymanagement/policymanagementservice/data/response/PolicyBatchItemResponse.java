@@ -0,0 +1,19 @@
+package com.policymanagement.policymanagementservice.data.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PolicyBatchItemResponse {
+    private Integer index;
+    private Integer status;
+    private PolicyCreateResponse policy;
+    private String message;
+}
@@ -0,0 +1,17 @@
+package com.policymanagement.policymanagementservice.data.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyChangeEvent {
+    private String policyId;
+    private Long policyVersion;
+    private String startDate;
+    private Integer insuredPersons;
+}
@@ -0,0 +1,19 @@
+package com.policymanagement.policymanagementservice.data.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PolicyPersonsResponse extends BaseResponseData {
+    private String requestDate;
+    private Long policyVersion;
+    private Long personCount;
+    private String nextCursor;
+}
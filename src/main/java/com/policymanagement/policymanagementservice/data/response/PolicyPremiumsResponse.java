@@ -0,0 +1,29 @@
+package com.policymanagement.policymanagementservice.data.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyPremiumsResponse {
+    private String policyId;
+    private List<VersionPremium> versions;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class VersionPremium {
+        private Long policyVersion;
+        private String startDate;
+        private Long insuredPersons;
+        private BigDecimal totalPremium;
+    }
+}
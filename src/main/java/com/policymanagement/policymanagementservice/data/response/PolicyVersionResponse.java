@@ -0,0 +1,15 @@
+package com.policymanagement.policymanagementservice.data.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyVersionResponse extends BaseResponseData {
+    private Long policyVersion;
+    private String startDate;
+}
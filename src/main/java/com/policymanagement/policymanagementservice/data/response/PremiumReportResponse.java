@@ -0,0 +1,29 @@
+package com.policymanagement.policymanagementservice.data.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PremiumReportResponse {
+    private String from;
+    private String to;
+    private List<PeriodPremium> periods;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PeriodPremium {
+        private String period;
+        private Long policyVersions;
+        private BigDecimal totalPremium;
+    }
+}
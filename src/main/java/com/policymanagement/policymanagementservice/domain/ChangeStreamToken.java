@@ -0,0 +1,27 @@
+package com.policymanagement.policymanagementservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("change_stream_token")
+@TypeAlias("change-stream-token")
+public class ChangeStreamToken {
+    @Id
+    private String name;
+    @Field("token")
+    private String token;
+    @Field("updated_at")
+    private Instant updatedAt;
+}
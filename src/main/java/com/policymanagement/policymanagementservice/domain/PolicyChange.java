@@ -0,0 +1,40 @@
+package com.policymanagement.policymanagementservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Written once all rows of a policy version are stored, so the change feed sees every version exactly when it is
+ * complete. Expires after a week, much longer than any resume token is expected to lag behind.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("policy_change")
+@TypeAlias("policy-change")
+public class PolicyChange {
+    @Id
+    private String id;
+    @Field("policy_id")
+    private String policyId;
+    @Field("policy_version")
+    private Long policyVersion;
+    @Field("start_date")
+    private LocalDate startDate;
+    @Field("insured_persons")
+    private Integer insuredPersons;
+    @Indexed(name = "policy_change_stored_at", expireAfter = "7d")
+    @Field("stored_at")
+    private Instant storedAt;
+}
@@ -3,7 +3,10 @@ package com.policymanagement.policymanagementservice.domain;
 
 import lombok.Builder;
 import lombok.Data;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -14,7 +17,15 @@ import java.time.LocalDate;
 @Builder
 @Document("policy_data")
 @TypeAlias("policy-person")
+@CompoundIndexes({
+        @CompoundIndex(name = "policy_version_start_date", def = "{ 'policy_id': 1, 'policy_version': -1, 'start_date': 1 }"),
+        @CompoundIndex(name = "policy_person", def = "{ 'policy_id': 1, 'person_id': 1 }"),
+        @CompoundIndex(name = "policy_version_person", def = "{ 'policy_id': 1, 'policy_version': 1, 'person_id': 1 }", unique = true),
+        @CompoundIndex(name = "start_date", def = "{ 'start_date': 1 }")
+})
 public class PolicyData {
+    @Id
+    private String id;
     @Field("policy_id")
     private String policyId;
     @Field("start_date")
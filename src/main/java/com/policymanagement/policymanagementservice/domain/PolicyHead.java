@@ -0,0 +1,34 @@
+package com.policymanagement.policymanagementservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("policy_head")
+@TypeAlias("policy-head")
+public class PolicyHead {
+    @Id
+    private String policyId;
+    @Field("policy_version")
+    private Long policyVersion;
+    @Field("next_person_id")
+    private Long nextPersonId;
+    @Field("start_date")
+    private LocalDate startDate;
+    @Field("total_premium")
+    private BigDecimal totalPremium;
+    @Field("committed_version")
+    private Long committedVersion;
+}
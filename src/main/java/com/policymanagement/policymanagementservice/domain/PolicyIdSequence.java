@@ -0,0 +1,23 @@
+package com.policymanagement.policymanagementservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("policy_id_sequence")
+@TypeAlias("policy-id-sequence")
+public class PolicyIdSequence {
+    @Id
+    private String name;
+    @Field("value")
+    private Long value;
+}
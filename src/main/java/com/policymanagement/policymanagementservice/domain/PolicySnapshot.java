@@ -0,0 +1,41 @@
+package com.policymanagement.policymanagementservice.domain;
+
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("policy_snapshot")
+@TypeAlias("policy-snapshot")
+@CompoundIndexes({
+        @CompoundIndex(name = "snapshot_policy_version_start_date", def = "{ 'policy_id': 1, 'policy_version': -1, 'start_date': 1 }")
+})
+public class PolicySnapshot {
+    @Id
+    private String id;
+    @Field("policy_id")
+    private String policyId;
+    @Field("policy_version")
+    private Long policyVersion;
+    @Field("start_date")
+    private LocalDate startDate;
+    @Field("insured_persons")
+    private List<InsuredPerson> insuredPersons;
+    @Field("total_premium")
+    private BigDecimal totalPremium;
+}
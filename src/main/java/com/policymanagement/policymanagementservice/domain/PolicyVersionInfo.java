@@ -0,0 +1,21 @@
+package com.policymanagement.policymanagementservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyVersionInfo {
+    @Id
+    private Long policyVersion;
+    @Field("start_date")
+    private LocalDate startDate;
+}
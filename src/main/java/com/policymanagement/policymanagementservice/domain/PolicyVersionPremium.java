@@ -0,0 +1,26 @@
+package com.policymanagement.policymanagementservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyVersionPremium {
+    @Id
+    private Long policyVersion;
+    @Field("start_date")
+    private LocalDate startDate;
+    @Field("insured_persons")
+    private Long insuredPersons;
+    @Field("total_premium")
+    private BigDecimal totalPremium;
+}
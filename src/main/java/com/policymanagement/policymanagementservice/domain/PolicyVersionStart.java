@@ -0,0 +1,22 @@
+package com.policymanagement.policymanagementservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyVersionStart {
+    @Field("policy_id")
+    private String policyId;
+    @Field("policy_version")
+    private Long policyVersion;
+    @Field("start_date")
+    private LocalDate startDate;
+}
@@ -0,0 +1,23 @@
+package com.policymanagement.policymanagementservice.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PremiumPeriod {
+    @Id
+    private String period;
+    @Field("policy_versions")
+    private Long policyVersions;
+    @Field("total_premium")
+    private BigDecimal totalPremium;
+}
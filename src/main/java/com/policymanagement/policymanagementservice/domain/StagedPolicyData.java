@@ -0,0 +1,30 @@
+package com.policymanagement.policymanagementservice.domain;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * Rows of a streamed policy version until all of its persons are stored. They are written as {@link PolicyData}
+ * documents and merged into policy_data in one step, this class only declares the collection and its indexes.
+ */
+@Data
+@Builder
+@Document("policy_data_staging")
+@CompoundIndexes({
+        @CompoundIndex(name = "staging_version_person", def = "{ 'policy_id': 1, 'policy_version': 1, 'person_id': 1 }", unique = true)
+})
+public class StagedPolicyData {
+    @Id
+    private String id;
+    @Field("policy_id")
+    private String policyId;
+    @Field("policy_version")
+    private Long policyVersion;
+    @Field("person_id")
+    private Long personId;
+}
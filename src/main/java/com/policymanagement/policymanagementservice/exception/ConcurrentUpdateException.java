@@ -0,0 +1,10 @@
+package com.policymanagement.policymanagementservice.exception;
+
+public class ConcurrentUpdateException extends RuntimeException {
+
+    public static final String MESSAGE = "The policy is being updated concurrently, please retry the request";
+
+    public ConcurrentUpdateException() {
+        super(MESSAGE);
+    }
+}
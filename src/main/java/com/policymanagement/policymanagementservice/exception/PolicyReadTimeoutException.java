@@ -0,0 +1,10 @@
+package com.policymanagement.policymanagementservice.exception;
+
+public class PolicyReadTimeoutException extends RuntimeException {
+
+    public static final String MESSAGE = "The policy could not be read in time, please retry the request";
+
+    public PolicyReadTimeoutException() {
+        super(MESSAGE);
+    }
+}
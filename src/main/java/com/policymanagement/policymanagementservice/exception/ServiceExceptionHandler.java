@@ -1,5 +1,6 @@
 package com.policymanagement.policymanagementservice.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -34,4 +35,25 @@ public class ServiceExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(value = {ConcurrentUpdateException.class})
+    public ResponseEntity<Object> handleCustomException(ConcurrentUpdateException ex) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put(MESSAGE, ex.getMessage());
+        return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(value = {WriteQueueFullException.class})
+    public ResponseEntity<Object> handleCustomException(WriteQueueFullException ex) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put(MESSAGE, ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(body);
+    }
+
+    @ExceptionHandler(value = {PolicyReadTimeoutException.class})
+    public ResponseEntity<Object> handleCustomException(PolicyReadTimeoutException ex) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put(MESSAGE, ex.getMessage());
+        return new ResponseEntity<>(body, HttpStatus.GATEWAY_TIMEOUT);
+    }
+
 }
@@ -0,0 +1,10 @@
+package com.policymanagement.policymanagementservice.exception;
+
+public class WriteQueueFullException extends RuntimeException {
+
+    public static final String MESSAGE = "The service is busy, please retry the request later";
+
+    public WriteQueueFullException() {
+        super(MESSAGE);
+    }
+}
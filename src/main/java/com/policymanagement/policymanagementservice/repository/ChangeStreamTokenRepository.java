@@ -0,0 +1,10 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.policymanagement.policymanagementservice.domain.ChangeStreamToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Component;
+
+@Component
+public interface ChangeStreamTokenRepository extends MongoRepository<ChangeStreamToken, String> {
+
+}
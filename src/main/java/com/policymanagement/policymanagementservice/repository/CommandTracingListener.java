@@ -0,0 +1,193 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.policymanagement.policymanagementservice.config.CommandTracingConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+public class CommandTracingListener implements CommandListener {
+
+    private static final Set<String> QUERY_COMMANDS = Set.of("find", "aggregate", "count", "distinct", "findAndModify", "insert", "update", "delete", "getMore");
+    private static final Set<String> EXPLAINABLE_COMMANDS = Set.of("find", "aggregate", "count", "distinct");
+    private static final Set<String> SESSION_FIELDS = Set.of("$db", "lsid", "$clusterTime", "txnNumber", "$readPreference", "readConcern", "writeConcern");
+    private static final int EXPLAIN_QUEUE_CAPACITY = 16;
+
+    private final MeterRegistry meterRegistry;
+    private final CommandTracingConfig config;
+    private final Supplier<MongoClient> explainClient;
+    private final ExecutorService explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(EXPLAIN_QUEUE_CAPACITY),
+            runnable -> {
+                var thread = new Thread(runnable, "mongo-command-explain");
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy());
+    private final Map<Integer, StartedCommand> startedCommands = new ConcurrentHashMap<>();
+
+    public CommandTracingListener(MeterRegistry meterRegistry, CommandTracingConfig config, Supplier<MongoClient> explainClient) {
+        this.meterRegistry = meterRegistry;
+        this.config = config;
+        this.explainClient = explainClient;
+    }
+
+    static BsonValue shapeOf(BsonValue value) {
+        if (value.isDocument()) {
+            var shape = new BsonDocument();
+            value.asDocument().forEach((key, field) -> shape.append(key, shapeOf(field)));
+            return shape;
+        }
+        if (value.isArray()) {
+            var shape = new BsonArray();
+            value.asArray().forEach(element -> shape.add(shapeOf(element)));
+            return shape;
+        }
+        return new BsonString("?");
+    }
+
+    static int responseBytes(BsonDocument response) {
+        return response instanceof RawBsonDocument rawResponse ? rawResponse.getByteBuffer().remaining() : -1;
+    }
+
+    static int documentsReturned(BsonDocument response) {
+        var cursor = response.getDocument("cursor", null);
+        if (cursor != null) {
+            var batch = cursor.containsKey("firstBatch") ? cursor.getArray("firstBatch") : cursor.getArray("nextBatch", new BsonArray());
+            return batch.size();
+        }
+        if (response.containsKey("value")) {
+            return response.get("value").isNull() ? 0 : 1;
+        }
+        return response.containsKey("n") && response.get("n").isNumber() ? response.getNumber("n").intValue() : 0;
+    }
+
+    private static String filterShape(String commandName, BsonDocument command) {
+        for (var key : new String[]{"filter", "query", "pipeline", "updates", "deletes"}) {
+            if (command.containsKey(key)) {
+                return shapeOf(command.get(key)).toString();
+            }
+        }
+        return commandName.equals("getMore") ? "getMore" : "{}";
+    }
+
+    private static String collectionOf(String commandName, BsonDocument command) {
+        if (commandName.equals("getMore")) {
+            return command.getString("collection", new BsonString("")).getValue();
+        }
+        var collection = command.get(commandName);
+        return collection != null && collection.isString() ? collection.asString().getValue() : "";
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        var commandName = event.getCommandName();
+        if (!QUERY_COMMANDS.contains(commandName)) {
+            return;
+        }
+
+        var command = event.getCommand();
+        var explainCommand = config.isExplain() && EXPLAINABLE_COMMANDS.contains(commandName) ? command.clone() : null;
+        startedCommands.put(event.getRequestId(), new StartedCommand(event.getDatabaseName(), collectionOf(commandName, command),
+                filterShape(commandName, command), explainCommand));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        var commandName = event.getCommandName();
+        if (!QUERY_COMMANDS.contains(commandName)) {
+            return;
+        }
+
+        var startedCommand = startedCommands.remove(event.getRequestId());
+        var collection = startedCommand == null ? "" : startedCommand.collection();
+        var elapsedNanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        var response = event.getResponse();
+        var documents = documentsReturned(response);
+        var bytes = responseBytes(response);
+
+        timer(commandName, collection, "success").record(elapsedNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("mongodb.command.documents")
+                .baseUnit("documents")
+                .tag("command", commandName)
+                .tag("collection", collection)
+                .register(meterRegistry)
+                .record(documents);
+        if (bytes >= 0) {
+            DistributionSummary.builder("mongodb.command.response")
+                    .baseUnit("bytes")
+                    .tag("command", commandName)
+                    .tag("collection", collection)
+                    .register(meterRegistry)
+                    .record(bytes);
+        }
+
+        if (startedCommand != null && elapsedNanos >= config.getSlowThreshold().toNanos()) {
+            log.warn("Slow MongoDB command {} on {}.{} took {} ms, returned {} documents and {} bytes, filter {}",
+                    commandName, startedCommand.database(), collection, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    documents, bytes, startedCommand.filterShape());
+            if (startedCommand.explainCommand() != null) {
+                explainExecutor.execute(() -> explain(startedCommand));
+            }
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        if (!QUERY_COMMANDS.contains(event.getCommandName())) {
+            return;
+        }
+
+        var startedCommand = startedCommands.remove(event.getRequestId());
+        var collection = startedCommand == null ? "" : startedCommand.collection();
+        timer(event.getCommandName(), collection, "failure").record(event.getElapsedTime(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    private Timer timer(String commandName, String collection, String status) {
+        return Timer.builder("mongodb.command")
+                .tag("command", commandName)
+                .tag("collection", collection)
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void explain(StartedCommand startedCommand) {
+        var command = startedCommand.explainCommand();
+        SESSION_FIELDS.forEach(command::remove);
+        try {
+            var explain = explainClient.get()
+                    .getDatabase(startedCommand.database())
+                    .runCommand(new BsonDocument("explain", command).append("verbosity", new BsonString("queryPlanner")), BsonDocument.class);
+            var queryPlanner = explain.getDocument("queryPlanner", explain);
+            log.warn("Explain of slow MongoDB command on {}.{} with filter {}: {}", startedCommand.database(), startedCommand.collection(),
+                    startedCommand.filterShape(), queryPlanner.getDocument("winningPlan", queryPlanner).toJson());
+        } catch (RuntimeException exception) {
+            log.warn("Could not explain slow MongoDB command on {}.{}", startedCommand.database(), startedCommand.collection(), exception);
+        }
+    }
+
+    private record StartedCommand(String database, String collection, String filterShape, BsonDocument explainCommand) {
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.policymanagement.policymanagementservice.config.IndexConfig;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "mongodb.indexes", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IndexManager {
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    @Autowired
+    MongoMappingContext mappingContext;
+
+    @Autowired
+    IndexConfig indexConfig;
+
+    private static String indexName(IndexDefinition definition) {
+        return String.valueOf(definition.getIndexOptions().get("name"));
+    }
+
+    private static boolean sameKeys(Document expected, Document actual) {
+        if (!List.copyOf(expected.keySet()).equals(List.copyOf(actual.keySet()))) {
+            return false;
+        }
+        return expected.keySet().stream().allMatch(key -> sameValue(expected.get(key), actual.get(key)));
+    }
+
+    private static boolean sameValue(Object expected, Object actual) {
+        if (expected instanceof Number expectedNumber && actual instanceof Number actualNumber) {
+            return expectedNumber.doubleValue() == actualNumber.doubleValue();
+        }
+        return Objects.equals(expected, actual);
+    }
+
+    static boolean matches(IndexDefinition definition, Document existing) {
+        var options = definition.getIndexOptions();
+        return sameKeys(definition.getIndexKeys(), existing.get("key", Document.class))
+                && options.getBoolean("unique", false) == existing.getBoolean("unique", false)
+                && options.getBoolean("sparse", false) == existing.getBoolean("sparse", false)
+                && sameValue(options.get("expireAfterSeconds"), existing.get("expireAfterSeconds"))
+                && Objects.equals(options.get("partialFilterExpression"), existing.get("partialFilterExpression"));
+    }
+
+    @PostConstruct
+    public void checkIndexes() {
+        var resolver = IndexResolver.create(mappingContext);
+        var missingIndexes = new ArrayList<String>();
+
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                var definitions = resolver.resolveIndexFor(entity.getTypeInformation());
+                missingIndexes.addAll(ensureIndexes(entity.getCollection(), definitions));
+            }
+        }
+
+        if (!missingIndexes.isEmpty() && indexConfig.isStrict()) {
+            throw new IllegalStateException("Required indexes are missing or differ from their definition: " + missingIndexes);
+        }
+    }
+
+    private List<String> ensureIndexes(String collection, Iterable<? extends IndexDefinition> definitions) {
+        IndexOperations indexOperations = mongoTemplate.indexOps(collection);
+        Map<String, Document> existingIndexes = new HashMap<>();
+        mongoTemplate.getCollection(collection).listIndexes()
+                .forEach(index -> existingIndexes.put(index.getString("name"), index));
+        var missingIndexes = new ArrayList<String>();
+
+        for (IndexDefinition definition : definitions) {
+            var name = indexName(definition);
+            var existing = existingIndexes.get(name);
+            if (existing != null && matches(definition, existing)) {
+                log.info("Index {}.{} is present", collection, name);
+                continue;
+            }
+            if (existing != null) {
+                log.error("Index {}.{} differs from its definition: {} instead of {} {}", collection, name,
+                        existing.toJson(), definition.getIndexKeys().toJson(), definition.getIndexOptions().toJson());
+                missingIndexes.add(collection + "." + name);
+                continue;
+            }
+            if (!indexConfig.isCreateMissing()) {
+                log.warn("Index {}.{} is missing and index creation is disabled", collection, name);
+                missingIndexes.add(collection + "." + name);
+                continue;
+            }
+
+            log.info("Building index {}.{} {}", collection, name, definition.getIndexKeys().toJson());
+            var start = System.currentTimeMillis();
+            try {
+                indexOperations.ensureIndex(definition);
+                log.info("Index {}.{} built in {} ms", collection, name, System.currentTimeMillis() - start);
+            } catch (RuntimeException exception) {
+                log.error("Index {}.{} could not be built", collection, name, exception);
+                missingIndexes.add(collection + "." + name);
+            }
+        }
+        return missingIndexes;
+    }
+
+}
@@ -2,21 +2,57 @@ package com.policymanagement.policymanagementservice.repository;
 
 
 import com.policymanagement.policymanagementservice.domain.PolicyData;
+import com.policymanagement.policymanagementservice.domain.PolicyVersionInfo;
+import com.policymanagement.policymanagementservice.domain.PolicyVersionPremium;
+import com.policymanagement.policymanagementservice.domain.PremiumPeriod;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 
 @Component
-public interface PolicyDataRepository extends MongoRepository<PolicyData, String> {
-
-    @Query(value = "{ 'policy_id': ?0 }", fields = "{ 'person_id': 1, 'policy_version': 1, '_id': 0 }")
-    List<PolicyData> findAllDistinctByPolicyIdWithSelectedFields(String existingPolicyId);
-
-    @Query("{$and:[{'policy_id': ?0}, {'start_date': {$lt: ?1}}]}")
-    List<PolicyData> findByPolicyIdAndLatestStartDate(String policyId, LocalDate latestStartDate);
+public interface PolicyDataRepository extends MongoRepository<PolicyData, String>, PolicyDataRepositoryCustom {
+
+    Optional<PolicyData> findFirstByPolicyIdOrderByPersonIdDesc(String policyId);
+
+    Optional<PolicyData> findFirstByPolicyIdOrderByPolicyVersionDesc(String policyId);
+
+    List<PolicyData> findByPolicyIdAndPolicyVersion(String policyId, Long policyVersion);
+
+    Stream<PolicyData> streamByPolicyIdAndPolicyVersionOrderByPersonId(String policyId, Long policyVersion);
+
+    @Aggregation(pipeline = {
+            "{ '$match': { 'policy_id': ?0 } }",
+            "{ '$sort': { 'policy_id': 1, 'policy_version': -1 } }",
+            "{ '$group': { '_id': '$policy_version', 'start_date': { '$first': '$start_date' } } }",
+            "{ '$sort': { '_id': -1 } }"
+    })
+    List<PolicyVersionInfo> findVersionsByPolicyId(String policyId);
+
+    @Aggregation(pipeline = {
+            "{ '$match': { 'policy_id': ?0 } }",
+            "{ '$group': { '_id': '$policy_version', 'start_date': { '$first': '$start_date' }, 'insured_persons': { '$sum': 1 }, 'total_premium': { '$sum': { '$toDecimal': '$premium' } } } }",
+            "{ '$sort': { '_id': 1 } }"
+    })
+    List<PolicyVersionPremium> findPremiumsByPolicyId(String policyId);
+
+    @Aggregation(pipeline = {
+            "{ '$match': { 'policy_id': ?0, 'policy_version': ?1 } }",
+            "{ '$group': { '_id': '$policy_version', 'start_date': { '$first': '$start_date' }, 'insured_persons': { '$sum': 1 }, 'total_premium': { '$sum': { '$toDecimal': '$premium' } } } }"
+    })
+    List<PolicyVersionPremium> findPremiumOfVersion(String policyId, Long policyVersion);
+
+    @Aggregation(pipeline = {
+            "{ '$match': { 'start_date': { '$gte': ?0, '$lt': ?1 } } }",
+            "{ '$group': { '_id': { 'policy_id': '$policy_id', 'policy_version': '$policy_version' }, 'start_date': { '$first': '$start_date' }, 'total_premium': { '$sum': { '$toDecimal': '$premium' } } } }",
+            "{ '$group': { '_id': { '$dateToString': { 'format': '%Y-%m', 'date': '$start_date', 'timezone': ?2 } }, 'policy_versions': { '$sum': 1 }, 'total_premium': { '$sum': '$total_premium' } } }",
+            "{ '$sort': { '_id': 1 } }"
+    })
+    List<PremiumPeriod> findMonthlyPremiums(LocalDate from, LocalDate to, String timezone);
 
 }
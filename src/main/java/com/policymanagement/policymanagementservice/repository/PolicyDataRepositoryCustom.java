@@ -0,0 +1,37 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.policymanagement.policymanagementservice.domain.PolicyData;
+import com.policymanagement.policymanagementservice.domain.PolicyVersionStart;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface PolicyDataRepositoryCustom {
+
+    Set<Integer> insertUnordered(List<PolicyData> entries);
+
+    Stream<PolicyData> streamHistory(String policyId);
+
+    Optional<Long> findPolicyInfoVersion(String policyId, LocalDate requestDate);
+
+    List<PolicyData> findPolicyInfoEntries(String policyId, Long policyVersion);
+
+    List<PolicyData> findPolicyPersonsPage(String policyId, Long policyVersion, long afterPersonId, int limit);
+
+    List<PolicyVersionStart> findPolicyInfoVersions(Map<String, Set<LocalDate>> requestDates);
+
+    List<PolicyData> findPolicyInfoEntries(Map<String, Set<Long>> policyVersions);
+
+    void insertStaged(List<PolicyData> entries);
+
+    void publishStaged(String policyId, long policyVersion);
+
+    void unpublishStaged(String policyId, long policyVersion);
+
+    void deleteStaged(String policyId, long policyVersion);
+
+}
@@ -0,0 +1,198 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteError;
+import com.policymanagement.policymanagementservice.config.MongoConfig;
+import com.policymanagement.policymanagementservice.domain.PolicyData;
+import com.policymanagement.policymanagementservice.domain.PolicyVersionStart;
+import com.policymanagement.policymanagementservice.domain.StagedPolicyData;
+import jakarta.annotation.PostConstruct;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class PolicyDataRepositoryCustomImpl implements PolicyDataRepositoryCustom {
+
+    private static final int CURSOR_BATCH_SIZE = 1000;
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    @Autowired
+    MongoConfig mongoConfig;
+
+    private MongoTemplate policyInfoTemplate;
+
+    @PostConstruct
+    void initPolicyInfoTemplate() {
+        policyInfoTemplate = new MongoTemplate(mongoTemplate.getMongoDatabaseFactory(), mongoTemplate.getConverter());
+        policyInfoTemplate.setReadPreference(mongoConfig.policyInfoReadPreference());
+    }
+
+    @Override
+    public Set<Integer> insertUnordered(List<PolicyData> entries) {
+        if (entries.isEmpty()) {
+            return Collections.emptySet();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PolicyData.class)
+                    .insert(entries)
+                    .execute();
+            return Collections.emptySet();
+        } catch (BulkOperationException exception) {
+            return exception.getErrors().stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+        }
+    }
+
+    @Override
+    public Stream<PolicyData> streamHistory(String policyId) {
+        var query = policyId == null ? new Query() : Query.query(where("policyId").is(policyId));
+        query.with(Sort.by("policyId", "policyVersion", "personId")).cursorBatchSize(CURSOR_BATCH_SIZE);
+
+        return mongoTemplate.stream(query, PolicyData.class);
+    }
+
+    @Override
+    public Optional<Long> findPolicyInfoVersion(String policyId, LocalDate requestDate) {
+        var query = Query.query(where("policyId").is(policyId).and("startDate").lt(requestDate))
+                .with(Sort.by(Sort.Direction.DESC, "policyVersion"))
+                .limit(1);
+        query.fields().include("policyVersion");
+
+        return Optional.ofNullable(policyInfoTemplate.findOne(query, PolicyData.class)).map(PolicyData::getPolicyVersion);
+    }
+
+    @Override
+    public List<PolicyData> findPolicyInfoEntries(String policyId, Long policyVersion) {
+        var query = Query.query(where("policyId").is(policyId).and("policyVersion").is(policyVersion));
+
+        return mongoTemplate.find(query, PolicyData.class);
+    }
+
+    @Override
+    public List<PolicyData> findPolicyPersonsPage(String policyId, Long policyVersion, long afterPersonId, int limit) {
+        var query = Query.query(where("policyId").is(policyId).and("policyVersion").is(policyVersion).and("personId").gt(afterPersonId))
+                .with(Sort.by("personId"))
+                .limit(limit);
+
+        return mongoTemplate.find(query, PolicyData.class);
+    }
+
+    @Override
+    public List<PolicyVersionStart> findPolicyInfoVersions(Map<String, Set<LocalDate>> requestDates) {
+        var converter = mongoTemplate.getConverter();
+        var requests = requestDates.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream().map(requestDate -> new Document("policy_id", entry.getKey())
+                        .append("request_date", converter.convertToMongoType(requestDate))))
+                .toList();
+        var pipeline = List.of(
+                new Document("$documents", requests),
+                new Document("$lookup", new Document("from", mongoTemplate.getCollectionName(PolicyData.class))
+                        .append("localField", "policy_id")
+                        .append("foreignField", "policy_id")
+                        .append("let", new Document("request_date", "$request_date"))
+                        .append("pipeline", List.of(
+                                new Document("$match", new Document("$expr", new Document("$lt", List.of("$start_date", "$$request_date")))),
+                                new Document("$sort", new Document("policy_version", -1)),
+                                new Document("$limit", 1),
+                                new Document("$project", new Document("_id", 0).append("policy_id", 1).append("policy_version", 1).append("start_date", 1))))
+                        .append("as", "version")),
+                new Document("$unwind", "$version"),
+                new Document("$replaceWith", "$version"));
+
+        var versions = new ArrayList<PolicyVersionStart>();
+        mongoTemplate.getDb()
+                .withReadPreference(mongoConfig.policyInfoReadPreference())
+                .aggregate(pipeline)
+                .forEach(document -> versions.add(converter.read(PolicyVersionStart.class, document)));
+        return versions;
+    }
+
+    @Override
+    public List<PolicyData> findPolicyInfoEntries(Map<String, Set<Long>> policyVersions) {
+        if (policyVersions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        var criteria = policyVersions.entrySet().stream()
+                .map(entry -> where("policyId").is(entry.getKey()).and("policyVersion").in(entry.getValue()))
+                .toArray(Criteria[]::new);
+
+        return mongoTemplate.find(Query.query(new Criteria().orOperator(criteria)), PolicyData.class);
+    }
+
+    @Override
+    public void insertStaged(List<PolicyData> entries) {
+        mongoTemplate.insert(entries, stagingCollection());
+    }
+
+    @Override
+    public void publishStaged(String policyId, long policyVersion) {
+        var pipeline = List.of(
+                new Document("$match", new Document("policy_id", policyId).append("policy_version", policyVersion)),
+                new Document("$merge", new Document("into", mongoTemplate.getCollectionName(PolicyData.class))
+                        .append("on", "_id")
+                        .append("whenMatched", "fail")
+                        .append("whenNotMatched", "insert")));
+        try {
+            mongoTemplate.getCollection(stagingCollection()).aggregate(pipeline).toCollection();
+        } catch (MongoException exception) {
+            if (ErrorCategory.fromErrorCode(exception.getCode()) == ErrorCategory.DUPLICATE_KEY) {
+                throw new DuplicateKeyException(exception.getMessage(), exception);
+            }
+            throw exception;
+        }
+    }
+
+    @Override
+    public void unpublishStaged(String policyId, long policyVersion) {
+        var query = stagedVersion(policyId, policyVersion).cursorBatchSize(CURSOR_BATCH_SIZE);
+        query.fields().include("id");
+
+        var ids = new ArrayList<String>(CURSOR_BATCH_SIZE);
+        try (var staged = mongoTemplate.stream(query, PolicyData.class, stagingCollection())) {
+            staged.forEach(entry -> {
+                ids.add(entry.getId());
+                if (ids.size() >= CURSOR_BATCH_SIZE) {
+                    mongoTemplate.remove(Query.query(where("id").in(ids)), PolicyData.class);
+                    ids.clear();
+                }
+            });
+        }
+        if (!ids.isEmpty()) {
+            mongoTemplate.remove(Query.query(where("id").in(ids)), PolicyData.class);
+        }
+    }
+
+    @Override
+    public void deleteStaged(String policyId, long policyVersion) {
+        mongoTemplate.remove(stagedVersion(policyId, policyVersion), PolicyData.class, stagingCollection());
+    }
+
+    private String stagingCollection() {
+        return mongoTemplate.getCollectionName(StagedPolicyData.class);
+    }
+
+    private static Query stagedVersion(String policyId, long policyVersion) {
+        return Query.query(where("policyId").is(policyId).and("policyVersion").is(policyVersion));
+    }
+
+}
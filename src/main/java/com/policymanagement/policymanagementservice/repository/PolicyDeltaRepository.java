@@ -0,0 +1,41 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.policymanagement.policymanagementservice.domain.PolicyDelta;
+import com.policymanagement.policymanagementservice.domain.PolicyVersionInfo;
+import com.policymanagement.policymanagementservice.domain.PolicyVersionPremium;
+import com.policymanagement.policymanagementservice.domain.PremiumPeriod;
+import org.springframework.data.mongodb.repository.Aggregation;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public interface PolicyDeltaRepository extends MongoRepository<PolicyDelta, String>, PolicyDeltaRepositoryCustom {
+
+    Optional<PolicyDelta> findFirstByPolicyIdOrderByPolicyVersionDesc(String policyId);
+
+    @Aggregation(pipeline = {
+            "{ '$match': { 'policy_id': ?0 } }",
+            "{ '$sort': { 'policy_id': 1, 'policy_version': -1 } }",
+            "{ '$project': { '_id': '$policy_version', 'start_date': 1 } }"
+    })
+    List<PolicyVersionInfo> findVersionsByPolicyId(String policyId);
+
+    @Aggregation(pipeline = {
+            "{ '$match': { 'policy_id': ?0 } }",
+            "{ '$project': { '_id': '$policy_version', 'start_date': 1, 'insured_persons': '$person_count', 'total_premium': 1 } }",
+            "{ '$sort': { '_id': 1 } }"
+    })
+    List<PolicyVersionPremium> findPremiumsByPolicyId(String policyId);
+
+    @Aggregation(pipeline = {
+            "{ '$match': { 'start_date': { '$gte': ?0, '$lt': ?1 } } }",
+            "{ '$group': { '_id': { '$dateToString': { 'format': '%Y-%m', 'date': '$start_date', 'timezone': ?2 } }, 'policy_versions': { '$sum': 1 }, 'total_premium': { '$sum': '$total_premium' } } }",
+            "{ '$sort': { '_id': 1 } }"
+    })
+    List<PremiumPeriod> findMonthlyPremiums(LocalDate from, LocalDate to, String timezone);
+
+}
@@ -0,0 +1,23 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.policymanagement.policymanagementservice.domain.PolicyDelta;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface PolicyDeltaRepositoryCustom {
+
+    Set<Integer> insertUnordered(List<PolicyDelta> deltas);
+
+    void upsertAll(List<PolicyDelta> deltas);
+
+    Optional<Long> findPolicyInfoVersion(String policyId, LocalDate requestDate);
+
+    List<PolicyDelta> findVersionChain(String policyId, Long policyVersion);
+
+    Stream<PolicyDelta> streamHistory(String policyId);
+
+}
@@ -0,0 +1,113 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.policymanagement.policymanagementservice.config.MongoConfig;
+import com.policymanagement.policymanagementservice.config.StorageConfig;
+import com.policymanagement.policymanagementservice.domain.PolicyDelta;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class PolicyDeltaRepositoryCustomImpl implements PolicyDeltaRepositoryCustom {
+
+    private static final int CURSOR_BATCH_SIZE = 1000;
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    @Autowired
+    MongoConfig mongoConfig;
+
+    @Autowired
+    StorageConfig storageConfig;
+
+    private MongoTemplate policyInfoTemplate;
+
+    @PostConstruct
+    void initPolicyInfoTemplate() {
+        policyInfoTemplate = new MongoTemplate(mongoTemplate.getMongoDatabaseFactory(), mongoTemplate.getConverter());
+        policyInfoTemplate.setReadPreference(mongoConfig.policyInfoReadPreference());
+    }
+
+    @Override
+    public Set<Integer> insertUnordered(List<PolicyDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return Collections.emptySet();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PolicyDelta.class)
+                    .insert(deltas)
+                    .execute();
+            return Collections.emptySet();
+        } catch (BulkOperationException exception) {
+            return exception.getErrors().stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+        }
+    }
+
+    @Override
+    public void upsertAll(List<PolicyDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        var bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PolicyDelta.class);
+        for (var delta : deltas) {
+            bulkOperations.replaceOne(Query.query(where("id").is(delta.getId())), delta, FindAndReplaceOptions.options().upsert());
+        }
+        bulkOperations.execute();
+    }
+
+    @Override
+    public Optional<Long> findPolicyInfoVersion(String policyId, LocalDate requestDate) {
+        var query = Query.query(where("policyId").is(policyId).and("startDate").lt(requestDate))
+                .with(Sort.by(Sort.Direction.DESC, "policyVersion"))
+                .limit(1);
+        query.fields().include("policyVersion");
+
+        return Optional.ofNullable(policyInfoTemplate.findOne(query, PolicyDelta.class)).map(PolicyDelta::getPolicyVersion);
+    }
+
+    @Override
+    public List<PolicyDelta> findVersionChain(String policyId, Long policyVersion) {
+        var query = Query.query(where("policyId").is(policyId).and("policyVersion").lte(policyVersion))
+                .with(Sort.by(Sort.Direction.DESC, "policyVersion"))
+                .cursorBatchSize(storageConfig.getCheckpointInterval());
+
+        var chain = new ArrayList<PolicyDelta>();
+        try (var deltas = policyInfoTemplate.stream(query, PolicyDelta.class)) {
+            for (var iterator = deltas.iterator(); iterator.hasNext(); ) {
+                var delta = iterator.next();
+                chain.add(delta);
+                if (delta.getPolicyVersion().equals(delta.getCheckpointVersion())) {
+                    break;
+                }
+            }
+        }
+        Collections.reverse(chain);
+        return chain;
+    }
+
+    @Override
+    public Stream<PolicyDelta> streamHistory(String policyId) {
+        var query = policyId == null ? new Query() : Query.query(where("policyId").is(policyId));
+        query.with(Sort.by("policyId", "policyVersion")).cursorBatchSize(CURSOR_BATCH_SIZE);
+
+        return mongoTemplate.stream(query, PolicyDelta.class);
+    }
+
+}
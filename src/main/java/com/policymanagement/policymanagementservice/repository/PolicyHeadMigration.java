@@ -0,0 +1,47 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.policymanagement.policymanagementservice.domain.PolicyData;
+import com.policymanagement.policymanagementservice.domain.PolicyHead;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "mongodb.migrations", name = "policy-heads", havingValue = "true")
+public class PolicyHeadMigration {
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        var headCollection = mongoTemplate.getCollectionName(PolicyHead.class);
+        var headsBefore = mongoTemplate.getCollection(headCollection).estimatedDocumentCount();
+
+        var pipeline = List.of(
+                new Document("$group", new Document("_id", "$policy_id")
+                        .append("policy_version", new Document("$max", "$policy_version"))
+                        .append("next_person_id", new Document("$max", "$person_id"))),
+                new Document("$set", new Document("next_person_id", new Document("$add", List.of("$next_person_id", 1L)))
+                        .append("committed_version", "$policy_version")),
+                new Document("$merge", new Document("into", headCollection)
+                        .append("on", "_id")
+                        .append("whenMatched", "keepExisting")
+                        .append("whenNotMatched", "insert")));
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(PolicyData.class))
+                .aggregate(pipeline)
+                .allowDiskUse(true)
+                .toCollection();
+
+        var headsAfter = mongoTemplate.getCollection(headCollection).estimatedDocumentCount();
+        log.info("Created {} missing documents in {}", headsAfter - headsBefore, headCollection);
+    }
+
+}
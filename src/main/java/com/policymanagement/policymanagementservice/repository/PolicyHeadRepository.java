@@ -0,0 +1,10 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.policymanagement.policymanagementservice.domain.PolicyHead;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Component;
+
+@Component
+public interface PolicyHeadRepository extends MongoRepository<PolicyHead, String>, PolicyHeadRepositoryCustom {
+
+}
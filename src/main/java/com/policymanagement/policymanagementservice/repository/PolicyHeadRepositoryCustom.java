@@ -0,0 +1,24 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.policymanagement.policymanagementservice.domain.PolicyHead;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+public interface PolicyHeadRepositoryCustom {
+
+    PolicyHead allocateNextVersion(String policyId, long newPersonsCount);
+
+    PolicyHead reservePersonIds(String policyId, long count);
+
+    void commitVersion(String policyId, long policyVersion, LocalDate startDate, BigDecimal totalPremium);
+
+    void commitVersions(List<String> policyIds, long policyVersion);
+
+    void synchronizeWithExistingData(String policyId, long policyVersion, long nextPersonId);
+
+    Set<Integer> insertUnordered(List<PolicyHead> policyHeads);
+
+}
@@ -0,0 +1,88 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.mongodb.bulk.BulkWriteError;
+import com.policymanagement.policymanagementservice.domain.PolicyHead;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class PolicyHeadRepositoryCustomImpl implements PolicyHeadRepositoryCustom {
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    @Override
+    public PolicyHead allocateNextVersion(String policyId, long newPersonsCount) {
+        var update = AggregationUpdate.from(List.of(
+                context -> new Document("$set", new Document("committed_version", new Document("$ifNull", List.of("$committed_version", "$policy_version")))),
+                context -> new Document("$set", new Document("policy_version", new Document("$add", List.of("$policy_version", 1L)))
+                        .append("next_person_id", new Document("$add", List.of("$next_person_id", newPersonsCount))))));
+
+        return mongoTemplate.findAndModify(query(where("_id").is(policyId)), update, options().returnNew(true), PolicyHead.class);
+    }
+
+    @Override
+    public PolicyHead reservePersonIds(String policyId, long count) {
+        var update = new Update().inc("next_person_id", count);
+
+        return mongoTemplate.findAndModify(query(where("_id").is(policyId)), update, options().returnNew(true), PolicyHead.class);
+    }
+
+    @Override
+    public void commitVersion(String policyId, long policyVersion, LocalDate startDate, BigDecimal totalPremium) {
+        var update = new Update()
+                .set("committed_version", policyVersion)
+                .set("start_date", startDate)
+                .set("total_premium", totalPremium);
+
+        mongoTemplate.updateFirst(query(where("_id").is(policyId).and("committed_version").lt(policyVersion)), update, PolicyHead.class);
+    }
+
+    @Override
+    public void commitVersions(List<String> policyIds, long policyVersion) {
+        if (policyIds.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(query(where("_id").in(policyIds)), new Update().max("committed_version", policyVersion), PolicyHead.class);
+    }
+
+    @Override
+    public void synchronizeWithExistingData(String policyId, long policyVersion, long nextPersonId) {
+        var update = new Update()
+                .max("policy_version", policyVersion)
+                .max("next_person_id", nextPersonId);
+
+        mongoTemplate.updateFirst(query(where("_id").is(policyId)), update, PolicyHead.class);
+    }
+
+    @Override
+    public Set<Integer> insertUnordered(List<PolicyHead> policyHeads) {
+        if (policyHeads.isEmpty()) {
+            return Collections.emptySet();
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PolicyHead.class)
+                    .insert(policyHeads)
+                    .execute();
+            return Collections.emptySet();
+        } catch (BulkOperationException exception) {
+            return exception.getErrors().stream().map(BulkWriteError::getIndex).collect(Collectors.toSet());
+        }
+    }
+
+}
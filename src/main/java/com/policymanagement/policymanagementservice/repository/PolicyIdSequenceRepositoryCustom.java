@@ -0,0 +1,7 @@
+package com.policymanagement.policymanagementservice.repository;
+
+public interface PolicyIdSequenceRepositoryCustom {
+
+    long allocateBlock(String name, long blockSize);
+
+}
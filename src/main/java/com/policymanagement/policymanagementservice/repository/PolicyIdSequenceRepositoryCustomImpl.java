@@ -0,0 +1,25 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.policymanagement.policymanagementservice.domain.PolicyIdSequence;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class PolicyIdSequenceRepositoryCustomImpl implements PolicyIdSequenceRepositoryCustom {
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    @Override
+    public long allocateBlock(String name, long blockSize) {
+        var sequence = mongoTemplate.findAndModify(query(where("_id").is(name)), new Update().inc("value", blockSize),
+                options().returnNew(true).upsert(true), PolicyIdSequence.class);
+
+        return sequence.getValue();
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.policymanagement.policymanagementservice.domain.PolicySnapshot;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Component;
+
+@Component
+public interface PolicySnapshotRepository extends MongoRepository<PolicySnapshot, String>, PolicySnapshotRepositoryCustom {
+
+}
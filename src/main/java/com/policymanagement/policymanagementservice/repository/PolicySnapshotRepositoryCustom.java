@@ -0,0 +1,11 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.policymanagement.policymanagementservice.domain.PolicySnapshot;
+
+import java.util.List;
+
+public interface PolicySnapshotRepositoryCustom {
+
+    void upsertAll(List<PolicySnapshot> snapshots);
+
+}
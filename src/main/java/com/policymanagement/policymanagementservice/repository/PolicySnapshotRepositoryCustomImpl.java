@@ -0,0 +1,31 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.policymanagement.policymanagementservice.domain.PolicySnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class PolicySnapshotRepositoryCustomImpl implements PolicySnapshotRepositoryCustom {
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    @Override
+    public void upsertAll(List<PolicySnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        var bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PolicySnapshot.class);
+        for (var snapshot : snapshots) {
+            bulkOperations.replaceOne(Query.query(where("id").is(snapshot.getId())), snapshot, FindAndReplaceOptions.options().upsert());
+        }
+        bulkOperations.execute();
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "mongodb.migrations", name = "decimal128-premiums", havingValue = "true")
+public class PremiumMigration implements ApplicationRunner {
+
+    private static final Document TO_DECIMAL_INSURED_PERSONS = Document.parse("""
+            { $map: { input: '$insured_persons', as: 'person',
+                      in: { $mergeObjects: [ '$$person', { premium: { $toDecimal: '$$person.premium' } } ] } } }""");
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrate();
+    }
+
+    public void migrate() {
+        convertToDecimal("policy_data", "premium");
+        convertToDecimal("policy_head", "total_premium");
+        convertToDecimal("policy_snapshot", "total_premium");
+
+        var snapshots = mongoTemplate.getCollection("policy_snapshot").updateMany(
+                new Document("insured_persons.premium", new Document("$type", "string")),
+                List.of(new Document("$set", new Document("insured_persons", TO_DECIMAL_INSURED_PERSONS))));
+        log.info("Converted the insured person premiums of {} documents in policy_snapshot to Decimal128", snapshots.getModifiedCount());
+    }
+
+    private void convertToDecimal(String collection, String field) {
+        var result = mongoTemplate.getCollection(collection).updateMany(
+                new Document(field, new Document("$type", "string")),
+                List.of(new Document("$set", new Document(field, new Document("$toDecimal", "$" + field)))));
+        log.info("Converted {} of {} documents in {} to Decimal128", field, result.getModifiedCount(), collection);
+    }
+
+}
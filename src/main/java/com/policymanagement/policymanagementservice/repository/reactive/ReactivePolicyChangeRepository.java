@@ -0,0 +1,10 @@
+package com.policymanagement.policymanagementservice.repository.reactive;
+
+import com.policymanagement.policymanagementservice.domain.PolicyChange;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Component;
+
+@Component
+public interface ReactivePolicyChangeRepository extends ReactiveMongoRepository<PolicyChange, String> {
+
+}
@@ -0,0 +1,24 @@
+package com.policymanagement.policymanagementservice.repository.reactive;
+
+import com.policymanagement.policymanagementservice.domain.PolicyData;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@Component
+public interface ReactivePolicyDataRepository extends ReactiveMongoRepository<PolicyData, String> {
+
+    Mono<PolicyData> findFirstByPolicyIdOrderByPersonIdDesc(String policyId);
+
+    Mono<PolicyData> findFirstByPolicyIdOrderByPolicyVersionDesc(String policyId);
+
+    Mono<PolicyData> findFirstByPolicyIdAndStartDateBeforeOrderByPolicyVersionDesc(String policyId, LocalDate latestStartDate);
+
+    Flux<PolicyData> findByPolicyIdAndPolicyVersion(String policyId, Long policyVersion);
+
+    Flux<PolicyData> findByPolicyIdOrderByPolicyVersionAscPersonIdAsc(String policyId);
+
+}
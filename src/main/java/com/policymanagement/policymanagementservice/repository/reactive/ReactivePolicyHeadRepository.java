@@ -0,0 +1,10 @@
+package com.policymanagement.policymanagementservice.repository.reactive;
+
+import com.policymanagement.policymanagementservice.domain.PolicyHead;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Component;
+
+@Component
+public interface ReactivePolicyHeadRepository extends ReactiveMongoRepository<PolicyHead, String>, ReactivePolicyHeadRepositoryCustom {
+
+}
@@ -0,0 +1,17 @@
+package com.policymanagement.policymanagementservice.repository.reactive;
+
+import com.policymanagement.policymanagementservice.domain.PolicyHead;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface ReactivePolicyHeadRepositoryCustom {
+
+    Mono<PolicyHead> allocateNextVersion(String policyId, long newPersonsCount);
+
+    Mono<Void> commitVersion(String policyId, long policyVersion, LocalDate startDate, BigDecimal totalPremium);
+
+    Mono<Void> synchronizeWithExistingData(String policyId, long policyVersion, long nextPersonId);
+
+}
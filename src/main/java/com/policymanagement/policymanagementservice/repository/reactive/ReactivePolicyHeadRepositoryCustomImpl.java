@@ -0,0 +1,53 @@
+package com.policymanagement.policymanagementservice.repository.reactive;
+
+import com.policymanagement.policymanagementservice.domain.PolicyHead;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.FindAndModifyOptions.options;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class ReactivePolicyHeadRepositoryCustomImpl implements ReactivePolicyHeadRepositoryCustom {
+
+    @Autowired
+    ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<PolicyHead> allocateNextVersion(String policyId, long newPersonsCount) {
+        var update = AggregationUpdate.from(List.of(
+                context -> new Document("$set", new Document("committed_version", new Document("$ifNull", List.of("$committed_version", "$policy_version")))),
+                context -> new Document("$set", new Document("policy_version", new Document("$add", List.of("$policy_version", 1L)))
+                        .append("next_person_id", new Document("$add", List.of("$next_person_id", newPersonsCount))))));
+
+        return reactiveMongoTemplate.findAndModify(query(where("_id").is(policyId)), update, options().returnNew(true), PolicyHead.class);
+    }
+
+    @Override
+    public Mono<Void> commitVersion(String policyId, long policyVersion, LocalDate startDate, BigDecimal totalPremium) {
+        var update = new Update()
+                .set("committed_version", policyVersion)
+                .set("start_date", startDate)
+                .set("total_premium", totalPremium);
+
+        return reactiveMongoTemplate.updateFirst(query(where("_id").is(policyId).and("committed_version").lt(policyVersion)), update, PolicyHead.class).then();
+    }
+
+    @Override
+    public Mono<Void> synchronizeWithExistingData(String policyId, long policyVersion, long nextPersonId) {
+        var update = new Update()
+                .max("policy_version", policyVersion)
+                .max("next_person_id", nextPersonId);
+
+        return reactiveMongoTemplate.updateFirst(query(where("_id").is(policyId)), update, PolicyHead.class).then();
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.policymanagement.policymanagementservice.rest;
+
+import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.data.request.PolicyUpdateRequestData;
+import com.policymanagement.policymanagementservice.data.response.AsyncWriteResponse;
+import com.policymanagement.policymanagementservice.exception.NoDataException;
+import com.policymanagement.policymanagementservice.service.async.AsyncPolicyWriter;
+import com.policymanagement.policymanagementservice.validator.InputValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "policy.async-writes", name = "enabled", havingValue = "true")
+@RequestMapping("/policies/async")
+public class AsyncPolicyDataController {
+    static final String STATUS_PATH = "/policies/async/requests/";
+
+    @Autowired
+    AsyncPolicyWriter writer;
+
+    @Autowired
+    InputValidator validator;
+
+    @PostMapping("/create")
+    public ResponseEntity<AsyncWriteResponse> createPolicy(@RequestBody PolicyCreateRequestData requestData) {
+        validator.validateCreatePolicyInput(requestData);
+
+        return accepted(writer.submitCreate(requestData));
+    }
+
+    @PostMapping("/update")
+    public ResponseEntity<AsyncWriteResponse> addPolicyUpdate(@RequestBody PolicyUpdateRequestData requestData) {
+        validator.validateUpdatePolicyInput(requestData);
+
+        return accepted(writer.submitUpdate(requestData));
+    }
+
+    @GetMapping("/requests/{requestId}")
+    public ResponseEntity<AsyncWriteResponse> getRequestStatus(@PathVariable String requestId) {
+        var response = writer.getStatus(requestId).orElseThrow(NoDataException::new);
+
+        return ResponseEntity.status(HttpStatus.OK).body(withStatusUrl(response));
+    }
+
+    private ResponseEntity<AsyncWriteResponse> accepted(AsyncWriteResponse response) {
+        var body = withStatusUrl(response);
+        return ResponseEntity.accepted().location(URI.create(body.getStatusUrl())).body(body);
+    }
+
+    private AsyncWriteResponse withStatusUrl(AsyncWriteResponse response) {
+        return response.toBuilder().statusUrl(STATUS_PATH + response.getRequestId()).build();
+    }
+
+}
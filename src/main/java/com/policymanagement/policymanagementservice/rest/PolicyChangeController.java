@@ -0,0 +1,85 @@
+package com.policymanagement.policymanagementservice.rest;
+
+import com.policymanagement.policymanagementservice.config.ChangeStreamConfig;
+import com.policymanagement.policymanagementservice.data.response.PolicyChangeEvent;
+import com.policymanagement.policymanagementservice.service.change.PolicyChangeListener;
+import com.policymanagement.policymanagementservice.service.change.PolicyChangePublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@RestController
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "policy.change-stream", name = "enabled", havingValue = "true")
+@RequestMapping("/policies")
+public class PolicyChangeController {
+    static final String EVENT_NAME = "policy-change";
+
+    @Autowired
+    PolicyChangePublisher publisher;
+
+    @Autowired
+    ChangeStreamConfig changeStreamConfig;
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(required = false) String policyId) {
+        var emitter = new SseEmitter(changeStreamConfig.getSseTimeout().toMillis());
+        var subscriber = new SseSubscriber(emitter, policyId, new ArrayBlockingQueue<>(changeStreamConfig.getSseBufferSize()), new AtomicBoolean());
+
+        publisher.addListener(subscriber);
+        var sender = Thread.ofVirtual().name("policy-changes-sse").start(subscriber::send);
+        Runnable unsubscribe = () -> {
+            publisher.removeListener(subscriber);
+            sender.interrupt();
+        };
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+
+        return emitter;
+    }
+
+    private record SseSubscriber(SseEmitter emitter, String policyId, BlockingQueue<PolicyChangeEvent> events, AtomicBoolean overflowed) implements PolicyChangeListener {
+
+        @Override
+        public void onPolicyChange(PolicyChangeEvent event) {
+            if (policyId != null && !policyId.equals(event.getPolicyId())) {
+                return;
+            }
+            if (!events.offer(event) && overflowed.compareAndSet(false, true)) {
+                log.warn("Closing a policy change subscriber that fell {} events behind", events.size());
+                emitter.complete();
+            }
+        }
+
+        void send() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    var event = events.take();
+                    emitter.send(SseEmitter.event()
+                            .name(EVENT_NAME)
+                            .id(event.getPolicyId() + ":" + event.getPolicyVersion())
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException exception) {
+                emitter.completeWithError(exception);
+            }
+        }
+    }
+
+}
@@ -1,23 +1,48 @@
 package com.policymanagement.policymanagementservice.rest;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.policymanagement.policymanagementservice.config.BatchConfig;
+import com.policymanagement.policymanagementservice.config.PaginationConfig;
 import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.data.request.PolicyInfoRequestData;
 import com.policymanagement.policymanagementservice.data.request.PolicyUpdateRequestData;
+import com.policymanagement.policymanagementservice.data.response.PolicyBatchItemResponse;
 import com.policymanagement.policymanagementservice.data.response.PolicyCreateResponse;
+import com.policymanagement.policymanagementservice.data.response.PolicyInfoBatchItemResponse;
 import com.policymanagement.policymanagementservice.data.response.PolicyInfoResponse;
+import com.policymanagement.policymanagementservice.data.response.PolicyPersonsResponse;
+import com.policymanagement.policymanagementservice.data.response.PolicyPremiumsResponse;
+import com.policymanagement.policymanagementservice.data.response.PremiumReportResponse;
 import com.policymanagement.policymanagementservice.data.response.PolicyUpdateResponse;
+import com.policymanagement.policymanagementservice.exception.InputValidationException;
+import com.policymanagement.policymanagementservice.exception.InvalidDateException;
 import com.policymanagement.policymanagementservice.service.PolicyDataService;
 import com.policymanagement.policymanagementservice.validator.InputValidator;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
+import static com.policymanagement.policymanagementservice.util.DateUtils.dateToString;
 import static com.policymanagement.policymanagementservice.util.DateUtils.stringToDate;
 
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/policies")
 public class PolicyDataController {
     @Autowired
@@ -26,6 +51,15 @@ public class PolicyDataController {
     @Autowired
     InputValidator validator;
 
+    @Autowired
+    BatchConfig batchConfig;
+
+    @Autowired
+    PaginationConfig paginationConfig;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
     @PostMapping("/create")
     public ResponseEntity<PolicyCreateResponse> createPolicy(@RequestBody PolicyCreateRequestData requestData) {
         validator.validateCreatePolicyInput(requestData);
@@ -34,6 +68,63 @@ public class PolicyDataController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/create/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public void createPolicies(InputStream requestBody, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        var output = response.getOutputStream();
+
+        var batch = new ArrayList<PolicyCreateRequestData>();
+        var batchIndexes = new ArrayList<Integer>();
+        var index = 0;
+        try (MappingIterator<PolicyCreateRequestData> requests = objectMapper.readerFor(PolicyCreateRequestData.class).readValues(requestBody)) {
+            while (requests.hasNextValue()) {
+                var requestData = requests.nextValue();
+                try {
+                    validator.validateCreatePolicyInput(requestData);
+                    batch.add(requestData);
+                    batchIndexes.add(index);
+                } catch (InputValidationException | InvalidDateException exception) {
+                    writeLine(output, PolicyBatchItemResponse.builder()
+                            .index(index)
+                            .status(HttpStatus.BAD_REQUEST.value())
+                            .message(exception.getMessage())
+                            .build());
+                }
+                index++;
+
+                if (batch.size() >= batchConfig.getSize()) {
+                    createBatch(output, batch, batchIndexes);
+                }
+            }
+        } catch (JsonProcessingException exception) {
+            writeLine(output, PolicyBatchItemResponse.builder()
+                    .index(index)
+                    .status(HttpStatus.BAD_REQUEST.value())
+                    .message("The request body could not be parsed")
+                    .build());
+        }
+        createBatch(output, batch, batchIndexes);
+        output.flush();
+    }
+
+    @PostMapping("/create/stream")
+    public void createPolicyStreamed(InputStream requestBody, HttpServletResponse response) throws IOException {
+        try (var request = new StreamedPolicyRequest(objectMapper, requestBody, validator::validateInsuredPerson)) {
+            validator.validateCreatePolicyInput(PolicyCreateRequestData.builder()
+                    .startDate(request.field("startDate"))
+                    .insuredPersons(request.firstPersons())
+                    .build());
+
+            var startDate = stringToDate(request.field("startDate"));
+            var output = new StreamedPolicyResponse(objectMapper, response, "startDate", dateToString(startDate));
+            var result = service.createNewPolicy(startDate, request, output);
+            output.finish(result.getPolicyId(), result.getTotalPremium());
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
     @PostMapping("/update")
     public ResponseEntity<PolicyUpdateResponse> addPolicyUpdate(@RequestBody PolicyUpdateRequestData requestData) {
         validator.validateUpdatePolicyInput(requestData);
@@ -42,24 +133,167 @@ public class PolicyDataController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/update/stream")
+    public void addPolicyUpdateStreamed(InputStream requestBody, HttpServletResponse response) throws IOException {
+        try (var request = new StreamedPolicyRequest(objectMapper, requestBody, validator::validateInsuredPerson)) {
+            validator.validateUpdatePolicyInput(PolicyUpdateRequestData.builder()
+                    .policyId(request.field("policyId"))
+                    .effectiveDate(request.field("effectiveDate"))
+                    .insuredPersons(request.firstPersons())
+                    .build());
+
+            var effectiveDate = stringToDate(request.field("effectiveDate"));
+            var output = new StreamedPolicyResponse(objectMapper, response, "effectiveDate", dateToString(effectiveDate));
+            var result = service.addPolicyUpdate(request.field("policyId"), effectiveDate, request, output);
+            output.finish(result.getPolicyId(), result.getTotalPremium());
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+    }
+
     @GetMapping("/policyId/{policyId}/requestDate/{requestDate}")
-    public ResponseEntity<PolicyInfoResponse> getPolicyInfo(@PathVariable() String policyId, @PathVariable String requestDate) {
+    public ResponseEntity<PolicyInfoResponse> getPolicyInfo(@PathVariable() String policyId, @PathVariable String requestDate, WebRequest request) {
         validator.validatePolicyInfoInput(policyId);
 
         LocalDate requestLocalDate = stringToDate(requestDate);
-        var response = service.getPolicyInfo(policyId, requestLocalDate);
+        return conditionalPolicyInfo(policyId, requestLocalDate, request);
+    }
+
+    @GetMapping("/policyId/{policyId}")
+    public ResponseEntity<PolicyInfoResponse> getPolicyInfo(@PathVariable String policyId, WebRequest request) {
+        validator.validatePolicyInfoInput(policyId);
+
+        LocalDate requestLocalDate = LocalDate.now();
+        return conditionalPolicyInfo(policyId, requestLocalDate, request);
+    }
+
+    @GetMapping("/policyId/{policyId}/requestDate/{requestDate}/persons")
+    public ResponseEntity<PolicyPersonsResponse> getPolicyPersons(@PathVariable String policyId, @PathVariable String requestDate,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(required = false) Integer limit) {
+        validator.validatePolicyInfoInput(policyId);
+        validator.validatePageSize(limit, paginationConfig.getMaxPageSize());
+
+        LocalDate requestLocalDate = stringToDate(requestDate);
+        var response = service.getPolicyPersons(policyId, requestLocalDate, cursor, limit == null ? paginationConfig.getDefaultPageSize() : limit);
 
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
-    @GetMapping("/policyId/{policyId}")
-    public ResponseEntity<PolicyInfoResponse> getPolicyInfo(@PathVariable String policyId) {
+    @GetMapping("/policyId/{policyId}/persons")
+    public ResponseEntity<PolicyPersonsResponse> getPolicyPersons(@PathVariable String policyId,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(required = false) Integer limit) {
         validator.validatePolicyInfoInput(policyId);
+        validator.validatePageSize(limit, paginationConfig.getMaxPageSize());
 
         LocalDate requestLocalDate = LocalDate.now();
-        var response = service.getPolicyInfo(policyId, requestLocalDate);
+        var response = service.getPolicyPersons(policyId, requestLocalDate, cursor, limit == null ? paginationConfig.getDefaultPageSize() : limit);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @PostMapping("/info/batch")
+    public ResponseEntity<List<PolicyInfoBatchItemResponse>> getPolicyInfos(@RequestBody List<PolicyInfoRequestData> requestData) {
+        validator.validatePolicyInfoBatchInput(requestData, batchConfig.getMaxReadSize());
+
+        var response = service.getPolicyInfos(requestData);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @GetMapping("/policyId/{policyId}/premiums")
+    public ResponseEntity<PolicyPremiumsResponse> getPolicyPremiums(@PathVariable String policyId) {
+        validator.validatePolicyInfoInput(policyId);
+
+        var response = service.getPolicyPremiums(policyId);
 
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @GetMapping("/premiums")
+    public ResponseEntity<PremiumReportResponse> getPremiumReport(@RequestParam String from, @RequestParam String to) {
+        LocalDate fromDate = stringToDate(from);
+        LocalDate toDate = stringToDate(to);
+        validator.validatePremiumReportInput(fromDate, toDate);
+
+        var response = service.getPremiumReport(fromDate, toDate);
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+    @GetMapping("/export")
+    public void exportPolicies(HttpServletResponse response) throws IOException {
+        writePolicyHistory(null, response);
+    }
+
+    @GetMapping("/policyId/{policyId}/history")
+    public void exportPolicyHistory(@PathVariable String policyId, HttpServletResponse response) throws IOException {
+        validator.validatePolicyInfoInput(policyId);
+
+        writePolicyHistory(policyId, response);
+    }
+
+    private ResponseEntity<PolicyInfoResponse> conditionalPolicyInfo(String policyId, LocalDate requestDate, WebRequest request) {
+        var policyVersion = service.getPolicyInfoVersion(policyId, requestDate);
+        var eTag = policyId + "-" + policyVersion + "-" + dateToString(requestDate);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        var response = service.getPolicyInfo(policyId, requestDate, policyVersion);
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(response);
+    }
+
+    private void writePolicyHistory(String policyId, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        var output = response.getOutputStream();
+
+        try {
+            service.exportPolicyHistory(policyId, version -> {
+                try {
+                    writeLine(output, version);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+        output.flush();
+    }
+
+    private void createBatch(OutputStream output, List<PolicyCreateRequestData> batch, List<Integer> batchIndexes) throws IOException {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<PolicyBatchItemResponse> results;
+        try {
+            results = service.createNewPolicies(batch);
+        } catch (RuntimeException exception) {
+            results = batch.stream()
+                    .map(requestData -> PolicyBatchItemResponse.builder()
+                            .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                            .message(PolicyDataService.POLICY_NOT_STORED_MESSAGE)
+                            .build())
+                    .toList();
+        }
+        for (var i = 0; i < results.size(); i++) {
+            var result = results.get(i);
+            result.setIndex(batchIndexes.get(i));
+            writeLine(output, result);
+        }
+        output.flush();
+
+        batch.clear();
+        batchIndexes.clear();
+    }
+
+    private void writeLine(OutputStream output, Object item) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(item));
+        output.write('\n');
+    }
+
 }
@@ -0,0 +1,81 @@
+package com.policymanagement.policymanagementservice.rest;
+
+import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.data.request.PolicyUpdateRequestData;
+import com.policymanagement.policymanagementservice.data.response.PolicyCreateResponse;
+import com.policymanagement.policymanagementservice.data.response.PolicyInfoResponse;
+import com.policymanagement.policymanagementservice.data.response.PolicyUpdateResponse;
+import com.policymanagement.policymanagementservice.data.response.PolicyVersionResponse;
+import com.policymanagement.policymanagementservice.service.ReactivePolicyDataService;
+import com.policymanagement.policymanagementservice.validator.InputValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+import static com.policymanagement.policymanagementservice.util.DateUtils.stringToDate;
+
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/policies")
+public class ReactivePolicyDataController {
+    @Autowired
+    ReactivePolicyDataService service;
+
+    @Autowired
+    InputValidator validator;
+
+    @PostMapping("/create")
+    public Mono<ResponseEntity<PolicyCreateResponse>> createPolicy(@RequestBody PolicyCreateRequestData requestData) {
+        validator.validateCreatePolicyInput(requestData);
+
+        return service.createNewPolicy(requestData)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @PostMapping("/update")
+    public Mono<ResponseEntity<PolicyUpdateResponse>> addPolicyUpdate(@RequestBody PolicyUpdateRequestData requestData) {
+        validator.validateUpdatePolicyInput(requestData);
+
+        return service.addPolicyUpdate(requestData)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @GetMapping("/policyId/{policyId}/requestDate/{requestDate}")
+    public Mono<ResponseEntity<PolicyInfoResponse>> getPolicyInfo(@PathVariable() String policyId, @PathVariable String requestDate) {
+        validator.validatePolicyInfoInput(policyId);
+
+        LocalDate requestLocalDate = stringToDate(requestDate);
+        return service.getPolicyInfo(policyId, requestLocalDate)
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
+    }
+
+    @GetMapping("/policyId/{policyId}")
+    public Mono<ResponseEntity<PolicyInfoResponse>> getPolicyInfo(@PathVariable String policyId) {
+        validator.validatePolicyInfoInput(policyId);
+
+        LocalDate requestLocalDate = LocalDate.now();
+        return service.getPolicyInfo(policyId, requestLocalDate)
+                .map(response -> ResponseEntity.status(HttpStatus.OK).body(response));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PolicyVersionResponse> exportPolicies() {
+        return service.exportPolicyHistory(null);
+    }
+
+    @GetMapping(value = "/policyId/{policyId}/history", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PolicyVersionResponse> exportPolicyHistory(@PathVariable String policyId) {
+        validator.validatePolicyInfoInput(policyId);
+
+        return service.exportPolicyHistory(policyId);
+    }
+
+}
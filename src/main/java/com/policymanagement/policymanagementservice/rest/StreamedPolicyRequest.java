@@ -0,0 +1,118 @@
+package com.policymanagement.policymanagementservice.rest;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.exception.InputValidationException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+class StreamedPolicyRequest implements Iterator<InsuredPerson>, Closeable {
+    private static final String PERSONS_FIELD = "insuredPersons";
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private final Consumer<InsuredPerson> personValidator;
+    private final Map<String, String> fields = new HashMap<>();
+    private boolean inPersons;
+    private InsuredPerson nextPerson;
+
+    StreamedPolicyRequest(ObjectMapper objectMapper, InputStream requestBody, Consumer<InsuredPerson> personValidator) {
+        this.objectMapper = objectMapper;
+        this.personValidator = personValidator;
+        try {
+            parser = objectMapper.getFactory().createParser(requestBody);
+            readFieldsBeforePersons();
+            advance();
+        } catch (IOException exception) {
+            throw toRuntimeException(exception);
+        }
+    }
+
+    String field(String name) {
+        return fields.get(name);
+    }
+
+    List<InsuredPerson> firstPersons() {
+        return nextPerson == null ? List.of() : List.of(nextPerson);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextPerson != null;
+    }
+
+    @Override
+    public InsuredPerson next() {
+        if (nextPerson == null) {
+            throw new NoSuchElementException();
+        }
+        var person = nextPerson;
+        try {
+            advance();
+        } catch (IOException exception) {
+            throw toRuntimeException(exception);
+        }
+        return person;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private void readFieldsBeforePersons() throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new InputValidationException("The request body could not be parsed");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var name = parser.currentName();
+            var token = parser.nextToken();
+            if (PERSONS_FIELD.equals(name) && token == JsonToken.START_ARRAY) {
+                inPersons = true;
+                return;
+            }
+            if (token.isStructStart()) {
+                parser.skipChildren();
+            } else if (token != JsonToken.VALUE_NULL) {
+                fields.put(name, parser.getText());
+            }
+        }
+    }
+
+    private void advance() throws IOException {
+        nextPerson = null;
+        if (!inPersons) {
+            return;
+        }
+        if (parser.nextToken() != JsonToken.END_ARRAY) {
+            var person = objectMapper.readValue(parser, InsuredPerson.class);
+            personValidator.accept(person);
+            nextPerson = person;
+            return;
+        }
+        inPersons = false;
+        if (parser.nextToken() != JsonToken.END_OBJECT) {
+            throw new InputValidationException("The request fields should precede the insured persons list");
+        }
+    }
+
+    private static RuntimeException toRuntimeException(IOException exception) {
+        if (exception instanceof JsonProcessingException) {
+            return new InputValidationException("The request body could not be parsed");
+        }
+        return new UncheckedIOException(exception);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.policymanagement.policymanagementservice.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+class StreamedPolicyResponse implements BiConsumer<String, List<InsuredPerson>> {
+    private final ObjectMapper objectMapper;
+    private final HttpServletResponse response;
+    private final String dateField;
+    private final String date;
+    private JsonGenerator generator;
+
+    StreamedPolicyResponse(ObjectMapper objectMapper, HttpServletResponse response, String dateField, String date) {
+        this.objectMapper = objectMapper;
+        this.response = response;
+        this.dateField = dateField;
+        this.date = date;
+    }
+
+    @Override
+    public void accept(String policyId, List<InsuredPerson> insuredPersons) {
+        try {
+            start(policyId);
+            for (var person : insuredPersons) {
+                generator.writeObject(person);
+            }
+            generator.flush();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    void finish(String policyId, BigDecimal totalPremium) throws IOException {
+        start(policyId);
+        generator.writeEndArray();
+        generator.writeObjectField("totalPremium", totalPremium);
+        generator.writeEndObject();
+        generator.close();
+    }
+
+    private void start(String policyId) throws IOException {
+        if (generator != null) {
+            return;
+        }
+        response.setStatus(HttpStatus.CREATED.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        generator = objectMapper.createGenerator(response.getOutputStream());
+        generator.writeStartObject();
+        generator.writeStringField("policyId", policyId);
+        generator.writeStringField(dateField, date);
+        generator.writeArrayFieldStart("insuredPersons");
+    }
+
+}
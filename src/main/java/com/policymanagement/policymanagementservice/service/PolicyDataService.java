@@ -1,35 +1,141 @@
 package com.policymanagement.policymanagementservice.service;
 
+import com.policymanagement.policymanagementservice.config.CacheConfig;
+import com.policymanagement.policymanagementservice.config.ChangeStreamConfig;
+import com.policymanagement.policymanagementservice.config.CoalescingConfig;
+import com.policymanagement.policymanagementservice.config.IdConfig;
+import com.policymanagement.policymanagementservice.config.SnapshotConfig;
+import com.policymanagement.policymanagementservice.config.StorageConfig;
+import com.policymanagement.policymanagementservice.config.StreamingConfig;
+import com.policymanagement.policymanagementservice.config.UpdateConfig;
 import com.policymanagement.policymanagementservice.data.InsuredPerson;
 import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.data.request.PolicyInfoRequestData;
 import com.policymanagement.policymanagementservice.data.request.PolicyUpdateRequestData;
+import com.policymanagement.policymanagementservice.data.response.PolicyBatchItemResponse;
 import com.policymanagement.policymanagementservice.data.response.PolicyCreateResponse;
+import com.policymanagement.policymanagementservice.data.response.PolicyInfoBatchItemResponse;
 import com.policymanagement.policymanagementservice.data.response.PolicyInfoResponse;
+import com.policymanagement.policymanagementservice.data.response.PolicyPersonsResponse;
+import com.policymanagement.policymanagementservice.data.response.PolicyPremiumsResponse;
+import com.policymanagement.policymanagementservice.data.response.PremiumReportResponse;
 import com.policymanagement.policymanagementservice.data.response.PolicyUpdateResponse;
+import com.policymanagement.policymanagementservice.data.response.PolicyVersionResponse;
 import com.policymanagement.policymanagementservice.domain.ExistingPolicyDetails;
+import com.policymanagement.policymanagementservice.domain.PolicyChange;
 import com.policymanagement.policymanagementservice.domain.PolicyData;
+import com.policymanagement.policymanagementservice.domain.PolicyHead;
+import com.policymanagement.policymanagementservice.domain.PolicySnapshot;
+import com.policymanagement.policymanagementservice.domain.PolicyVersionInfo;
+import com.policymanagement.policymanagementservice.domain.PolicyVersionStart;
+import com.policymanagement.policymanagementservice.exception.ConcurrentUpdateException;
+import com.policymanagement.policymanagementservice.exception.InputValidationException;
+import com.policymanagement.policymanagementservice.exception.InvalidDateException;
 import com.policymanagement.policymanagementservice.exception.NoDataException;
+import com.policymanagement.policymanagementservice.repository.PolicyChangeRepository;
 import com.policymanagement.policymanagementservice.repository.PolicyDataRepository;
-import org.apache.commons.lang3.RandomStringUtils;
+import com.policymanagement.policymanagementservice.repository.PolicyDeltaRepository;
+import com.policymanagement.policymanagementservice.repository.PolicyHeadRepository;
+import com.policymanagement.policymanagementservice.repository.PolicySnapshotRepository;
+import com.policymanagement.policymanagementservice.service.id.PolicyIdGenerator;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static com.policymanagement.policymanagementservice.util.DateUtils.dateToString;
 import static com.policymanagement.policymanagementservice.util.DateUtils.stringToDate;
 
 @Service
 public class PolicyDataService {
+    public static final String POLICY_NOT_STORED_MESSAGE = "The policy could not be stored, please retry the request";
+
     @Autowired
     PolicyDataRepository repository;
 
-    private static Function<PolicyData, InsuredPerson> getPolicyDataInsuredPersonFunction() {
+    @Autowired
+    PolicyHeadRepository headRepository;
+
+    @Autowired
+    UpdateConfig updateConfig;
+
+    @Autowired
+    CacheConfig cacheConfig;
+
+    @Autowired
+    PolicySnapshotRepository snapshotRepository;
+
+    @Autowired
+    SnapshotConfig snapshotConfig;
+
+    @Autowired
+    PolicyTimelineCache timelineCache;
+
+    @Autowired
+    PolicyMetrics policyMetrics;
+
+    @Autowired
+    PolicyIdGenerator policyIdGenerator;
+
+    @Autowired
+    IdConfig idConfig;
+
+    @Autowired
+    CoalescingConfig coalescingConfig;
+
+    @Autowired
+    StorageConfig storageConfig;
+
+    @Autowired
+    PolicyDeltaStore deltaStore;
+
+    @Autowired
+    PolicyDeltaRepository deltaRepository;
+
+    @Autowired
+    StreamingConfig streamingConfig;
+
+    @Autowired
+    ChangeStreamConfig changeStreamConfig;
+
+    @Autowired
+    PolicyChangeRepository changeRepository;
+
+    private SingleFlight<PolicyInfoKey, PolicyInfoResponse> policyInfoCalls;
+    private SingleFlight<PolicyInfoKey, Long> policyInfoVersionCalls;
+
+    @PostConstruct
+    void initSingleFlights() {
+        policyInfoCalls = new SingleFlight<>("info", policyMetrics);
+        policyInfoVersionCalls = new SingleFlight<>("info-version", policyMetrics);
+    }
+
+    static Function<PolicyData, InsuredPerson> getPolicyDataInsuredPersonFunction() {
         return dbPolicyItem -> InsuredPerson.builder()
                 .id(dbPolicyItem.getPersonId())
                 .premium(dbPolicyItem.getPremium())
@@ -38,15 +144,12 @@ public class PolicyDataService {
                 .build();
     }
 
-    private static Long getMaximumValueByCriteria(List<PolicyData> existingDetails, Function<PolicyData, Long> mapper) {
-        return existingDetails.stream().map(mapper).distinct().max(Comparator.naturalOrder()).get();
-    }
-
-    private static List<PolicyData> prepareEntriesForDb(String policyId, LocalDate date, long policyVersion, List<InsuredPerson> persons) {
+    static List<PolicyData> prepareEntriesForDb(String policyId, LocalDate date, long policyVersion, List<InsuredPerson> persons) {
         return persons
                 .stream()
                 .map(person ->
                         PolicyData.builder()
+                                .id(ObjectId.get().toHexString())
                                 .policyId(policyId)
                                 .policyVersion(policyVersion)
                                 .personId(person.getId())
@@ -59,24 +162,78 @@ public class PolicyDataService {
                 .toList();
     }
 
-    private static BigDecimal calculateTotalPremium(List<InsuredPerson> insuredPersons) {
+    static BigDecimal calculateTotalPremium(List<InsuredPerson> insuredPersons) {
         return insuredPersons.stream().map(InsuredPerson::getPremium).reduce(BigDecimal::add).get();
     }
 
+    static String policySnapshotId(String policyId, Long policyVersion) {
+        return policyId + "_" + policyVersion;
+    }
+
+    static PolicySnapshot buildPolicySnapshot(String policyId, Long policyVersion, LocalDate startDate, List<InsuredPerson> insuredPersons, BigDecimal totalPremium) {
+        return PolicySnapshot.builder()
+                .id(policySnapshotId(policyId, policyVersion))
+                .policyId(policyId)
+                .policyVersion(policyVersion)
+                .startDate(startDate)
+                .insuredPersons(insuredPersons)
+                .totalPremium(totalPremium)
+                .build();
+    }
+
+    static PolicyVersionResponse buildPolicyVersionResponse(PolicyData versionStart, List<InsuredPerson> insuredPersons, BigDecimal totalPremium) {
+        return PolicyVersionResponse.builder()
+                .policyId(versionStart.getPolicyId())
+                .policyVersion(versionStart.getPolicyVersion())
+                .startDate(dateToString(versionStart.getStartDate()))
+                .insuredPersons(insuredPersons)
+                .totalPremium(totalPremium)
+                .build();
+    }
+
     @Transactional
+    @Timed(value = "policy.service", extraTags = {"operation", "create"}, histogram = true)
     public PolicyCreateResponse createNewPolicy(PolicyCreateRequestData request) {
         var policyVersion = 1L;
         var nextAvailablePersonId = 1L;
-        var policyId = generateRandomId();
 
         var startDate = stringToDate(request.getStartDate());
         var persons = generatePolicyIdsForNewPersons(request.getInsuredPersons(), nextAvailablePersonId);
+        var policyHead = PolicyHead.builder()
+                .policyVersion(policyVersion)
+                .nextPersonId(nextAvailablePersonId + persons.size())
+                .startDate(startDate)
+                .totalPremium(calculateTotalPremium(persons))
+                .committedVersion(0L)
+                .build();
 
-        var policyPersonsData = prepareEntriesForDb(policyId, startDate, policyVersion, persons);
-        var savedData = repository.saveAll(policyPersonsData);
+        policyMetrics.recordInsuredPersons("create", persons.size());
+        String policyId;
+        List<InsuredPerson> insuredPersons;
+        for (var attempt = 1; ; attempt++) {
+            policyId = claimPolicyId(policyHead);
+            try {
+                insuredPersons = storePolicyVersion(policyId, startDate, policyVersion, persons);
+                break;
+            } catch (DuplicateKeyException exception) {
+                headRepository.deleteById(policyId);
+                if (attempt >= idConfig.getMaxAttempts()) {
+                    throw new ConcurrentUpdateException();
+                }
+            } catch (RuntimeException exception) {
+                headRepository.deleteById(policyId);
+                throw exception;
+            }
+        }
 
-        var insuredPersons = savedData.stream().map(getPolicyDataInsuredPersonFunction()).toList();
         var totalPremium = calculateTotalPremium(insuredPersons);
+        headRepository.commitVersion(policyId, policyVersion, startDate, totalPremium);
+
+        if (snapshotConfig.isEnabled()) {
+            snapshotRepository.save(buildPolicySnapshot(policyId, policyVersion, startDate, insuredPersons, totalPremium));
+        }
+        recordChanges(List.of(buildPolicyChange(policyId, policyVersion, startDate, insuredPersons.size())));
+        invalidateReads(policyId, policyVersion);
 
         return PolicyCreateResponse.builder()
                 .startDate(dateToString(startDate))
@@ -86,21 +243,219 @@ public class PolicyDataService {
                 .build();
     }
 
+    @Timed(value = "policy.service", extraTags = {"operation", "create-stream"}, histogram = true)
+    public PolicyCreateResponse createNewPolicy(LocalDate startDate, Iterator<InsuredPerson> persons, BiConsumer<String, List<InsuredPerson>> storedPersons) {
+        requireStreamableStorage();
+        var policyVersion = 1L;
+        var policyId = claimPolicyId(PolicyHead.builder()
+                .policyVersion(policyVersion)
+                .nextPersonId(1L)
+                .startDate(startDate)
+                .totalPremium(BigDecimal.ZERO)
+                .committedVersion(0L)
+                .build());
+
+        StoredVersion storedVersion;
+        try {
+            storedVersion = storeStreamedVersion("create", policyId, startDate, policyVersion, persons);
+        } catch (RuntimeException exception) {
+            headRepository.deleteById(policyId);
+            throw exception;
+        }
+        headRepository.commitVersion(policyId, policyVersion, startDate, storedVersion.totalPremium());
+        recordChanges(List.of(buildPolicyChange(policyId, policyVersion, startDate, storedVersion.insuredPersons())));
+        invalidateReads(policyId, policyVersion);
+        writeStoredPersons(policyId, policyVersion, storedPersons);
+
+        return PolicyCreateResponse.builder()
+                .startDate(dateToString(startDate))
+                .policyId(policyId)
+                .totalPremium(storedVersion.totalPremium())
+                .build();
+    }
+
+    @Timed(value = "policy.service", extraTags = {"operation", "create-batch"}, histogram = true)
+    public List<PolicyBatchItemResponse> createNewPolicies(List<PolicyCreateRequestData> requests) {
+        return createNewPolicies(requests, requests.stream().map(request -> policyIdGenerator.nextId()).toList(), true);
+    }
+
+    @Timed(value = "policy.service", extraTags = {"operation", "create-batch"}, histogram = true)
+    public List<PolicyBatchItemResponse> createNewPolicies(List<PolicyCreateRequestData> requests, List<String> policyIds) {
+        return createNewPolicies(requests, policyIds, false);
+    }
+
+    private List<PolicyBatchItemResponse> createNewPolicies(List<PolicyCreateRequestData> requests, List<String> policyIds, boolean regenerateTakenIds) {
+        var requestPersons = new ArrayList<List<InsuredPerson>>();
+        var policyHeads = new ArrayList<PolicyHead>();
+        for (var requestIndex = 0; requestIndex < requests.size(); requestIndex++) {
+            var request = requests.get(requestIndex);
+            var persons = generatePolicyIdsForNewPersons(request.getInsuredPersons(), 1L);
+            requestPersons.add(persons);
+            policyHeads.add(PolicyHead.builder()
+                    .policyId(policyIds.get(requestIndex))
+                    .policyVersion(1L)
+                    .nextPersonId(persons.size() + 1L)
+                    .startDate(stringToDate(request.getStartDate()))
+                    .totalPremium(calculateTotalPremium(persons))
+                    .committedVersion(0L)
+                    .build());
+        }
+        var failedPolicies = claimPolicyIds(policyHeads, regenerateTakenIds);
+
+        var policies = new ArrayList<List<PolicyData>>();
+        for (var policyIndex = 0; policyIndex < policyHeads.size(); policyIndex++) {
+            var policyHead = policyHeads.get(policyIndex);
+            policies.add(prepareEntriesForDb(policyHead.getPolicyId(), policyHead.getStartDate(), 1L, requestPersons.get(policyIndex)));
+        }
+
+        var storedPolicies = new ArrayList<Integer>();
+        for (var policyIndex = 0; policyIndex < policies.size(); policyIndex++) {
+            if (!failedPolicies.contains(policyIndex)) {
+                storedPolicies.add(policyIndex);
+                policyMetrics.recordInsuredPersons("create", policies.get(policyIndex).size());
+            }
+        }
+        var failedEntryPolicies = storageConfig.isDeltaMode()
+                ? insertCheckpoints(policies, storedPolicies)
+                : insertEntries(policies, storedPolicies);
+        if (!failedEntryPolicies.isEmpty()) {
+            headRepository.deleteAllById(failedEntryPolicies.stream().map(index -> policyHeads.get(index).getPolicyId()).toList());
+            failedPolicies.addAll(failedEntryPolicies);
+        }
+        headRepository.commitVersions(storedPolicies.stream()
+                .filter(index -> !failedPolicies.contains(index))
+                .map(index -> policyHeads.get(index).getPolicyId())
+                .toList(), 1L);
+
+        var results = new ArrayList<PolicyBatchItemResponse>();
+        var snapshots = new ArrayList<PolicySnapshot>();
+        var changes = new ArrayList<PolicyChange>();
+        for (var policyIndex = 0; policyIndex < policies.size(); policyIndex++) {
+            if (failedPolicies.contains(policyIndex)) {
+                results.add(PolicyBatchItemResponse.builder()
+                        .status(HttpStatus.CONFLICT.value())
+                        .message(POLICY_NOT_STORED_MESSAGE)
+                        .build());
+                continue;
+            }
+
+            var entries = policies.get(policyIndex);
+            var policyId = entries.get(0).getPolicyId();
+            var startDate = entries.get(0).getStartDate();
+            var insuredPersons = entries.stream().map(getPolicyDataInsuredPersonFunction()).toList();
+            var totalPremium = calculateTotalPremium(insuredPersons);
+
+            if (snapshotConfig.isEnabled()) {
+                snapshots.add(buildPolicySnapshot(policyId, 1L, startDate, insuredPersons, totalPremium));
+            }
+            changes.add(buildPolicyChange(policyId, 1L, startDate, insuredPersons.size()));
+            results.add(PolicyBatchItemResponse.builder()
+                    .status(HttpStatus.CREATED.value())
+                    .policy(PolicyCreateResponse.builder()
+                            .startDate(dateToString(startDate))
+                            .policyId(policyId)
+                            .insuredPersons(insuredPersons)
+                            .totalPremium(totalPremium)
+                            .build())
+                    .build());
+        }
+        if (snapshotConfig.isEnabled()) {
+            snapshotRepository.upsertAll(snapshots);
+        }
+        recordChanges(changes);
+
+        return results;
+    }
+
+    private Set<Integer> insertEntries(List<List<PolicyData>> policies, List<Integer> storedPolicies) {
+        var allEntries = storedPolicies.stream().flatMap(index -> policies.get(index).stream()).toList();
+        policyMetrics.recordInsertBatchSize(allEntries.size());
+        var failedEntries = repository.insertUnordered(allEntries);
+        var failedEntryPolicies = new HashSet<Integer>();
+        var entryIndex = 0;
+        for (var policyIndex : storedPolicies) {
+            for (var entry = 0; entry < policies.get(policyIndex).size(); entry++) {
+                if (failedEntries.contains(entryIndex++)) {
+                    failedEntryPolicies.add(policyIndex);
+                }
+            }
+        }
+        if (!failedEntryPolicies.isEmpty()) {
+            repository.deleteAllById(failedEntryPolicies.stream().flatMap(index -> policies.get(index).stream()).map(PolicyData::getId).toList());
+        }
+        return failedEntryPolicies;
+    }
+
+    private Set<Integer> insertCheckpoints(List<List<PolicyData>> policies, List<Integer> storedPolicies) {
+        var checkpoints = storedPolicies.stream()
+                .map(index -> {
+                    var entries = policies.get(index);
+                    var insuredPersons = entries.stream().map(getPolicyDataInsuredPersonFunction()).toList();
+                    return PolicyDeltaStore.buildCheckpoint(entries.get(0).getPolicyId(), 1L, entries.get(0).getStartDate(), insuredPersons, 0L);
+                })
+                .toList();
+        policyMetrics.recordInsertBatchSize(checkpoints.size());
+        var failedCheckpoints = deltaStore.insertCheckpoints(checkpoints);
+        var failedEntryPolicies = new HashSet<Integer>();
+        for (var checkpointIndex : failedCheckpoints) {
+            failedEntryPolicies.add(storedPolicies.get(checkpointIndex));
+        }
+        return failedEntryPolicies;
+    }
+
+    private List<InsuredPerson> storePolicyVersion(String policyId, LocalDate startDate, long policyVersion, List<InsuredPerson> persons) {
+        if (storageConfig.isDeltaMode()) {
+            policyMetrics.recordInsertBatchSize(1);
+            deltaStore.write(policyId, policyVersion, startDate, persons);
+            return persons;
+        }
+
+        var policyPersonsData = prepareEntriesForDb(policyId, startDate, policyVersion, persons);
+        policyMetrics.recordInsertBatchSize(policyPersonsData.size());
+        try {
+            return repository.insert(policyPersonsData).stream().map(getPolicyDataInsuredPersonFunction()).toList();
+        } catch (DuplicateKeyException exception) {
+            repository.deleteAllById(policyPersonsData.stream().map(PolicyData::getId).toList());
+            throw exception;
+        }
+    }
+
     @Transactional
+    @Timed(value = "policy.service", extraTags = {"operation", "update"}, histogram = true)
     public PolicyUpdateResponse addPolicyUpdate(PolicyUpdateRequestData request) {
         var policyId = request.getPolicyId();
-        var existingPolicyDetails = findRelevantExistingValuesForPolicy(policyId);
-        var policyVersion = existingPolicyDetails.getLargestExistingPolicyVersion() + 1;
-        var nextAvailablePersonId = existingPolicyDetails.getLargestExistingPersonsIds() + 1;
-
         var effectiveDate = stringToDate(request.getEffectiveDate());
-        var persons = generatePolicyIdsForNewPersons(request.getInsuredPersons(), nextAvailablePersonId);
+        policyMetrics.recordInsuredPersons("update", request.getInsuredPersons().size());
+
+        var newPersons = request.getInsuredPersons().stream().filter(person -> person.getId() == null).toList();
+        var newPersonsCount = newPersons.size();
+
+        List<InsuredPerson> insuredPersons = null;
+        var policyVersion = 0L;
+        for (var attempt = 1; insuredPersons == null; attempt++) {
+            newPersons.forEach(person -> person.setId(null));
+
+            var policyHead = allocateNextPolicyVersion(policyId, newPersonsCount);
+            policyVersion = policyHead.getPolicyVersion();
+            var nextAvailablePersonId = policyHead.getNextPersonId() - newPersonsCount;
 
-        var policyPersonsData = prepareEntriesForDb(policyId, effectiveDate, policyVersion, persons);
-        var savedData = repository.saveAll(policyPersonsData);
+            var persons = generatePolicyIdsForNewPersons(request.getInsuredPersons(), nextAvailablePersonId);
 
-        var insuredPersons = savedData.stream().map(getPolicyDataInsuredPersonFunction()).toList();
+            try {
+                insuredPersons = storePolicyVersion(policyId, effectiveDate, policyVersion, persons);
+                policyMetrics.recordVersions(policyVersion);
+            } catch (DuplicateKeyException exception) {
+                recoverFromVersionConflict(policyId, attempt);
+            }
+        }
         var totalPremium = calculateTotalPremium(insuredPersons);
+        headRepository.commitVersion(policyId, policyVersion, effectiveDate, totalPremium);
+        invalidateReads(policyId, policyVersion);
+
+        if (snapshotConfig.isEnabled()) {
+            snapshotRepository.save(buildPolicySnapshot(policyId, policyVersion, effectiveDate, insuredPersons, totalPremium));
+        }
+        recordChanges(List.of(buildPolicyChange(policyId, policyVersion, effectiveDate, insuredPersons.size())));
 
         return PolicyUpdateResponse.builder()
                 .effectiveDate(dateToString(effectiveDate))
@@ -110,10 +465,236 @@ public class PolicyDataService {
                 .build();
     }
 
+    @Timed(value = "policy.service", extraTags = {"operation", "update-stream"}, histogram = true)
+    public PolicyUpdateResponse addPolicyUpdate(String policyId, LocalDate effectiveDate, Iterator<InsuredPerson> persons, BiConsumer<String, List<InsuredPerson>> storedPersons) {
+        requireStreamableStorage();
+        var policyHead = allocateNextPolicyVersion(policyId, 0);
+        var policyVersion = policyHead.getPolicyVersion();
+
+        var storedVersion = storeStreamedVersion("update", policyId, effectiveDate, policyVersion, persons);
+        headRepository.commitVersion(policyId, policyVersion, effectiveDate, storedVersion.totalPremium());
+        policyMetrics.recordVersions(policyVersion);
+        recordChanges(List.of(buildPolicyChange(policyId, policyVersion, effectiveDate, storedVersion.insuredPersons())));
+        invalidateReads(policyId, policyVersion);
+        writeStoredPersons(policyId, policyVersion, storedPersons);
+
+        return PolicyUpdateResponse.builder()
+                .effectiveDate(dateToString(effectiveDate))
+                .policyId(policyId)
+                .totalPremium(storedVersion.totalPremium())
+                .build();
+    }
+
+    private StoredVersion storeStreamedVersion(String operation, String policyId, LocalDate startDate, long policyVersion, Iterator<InsuredPerson> persons) {
+        StoredVersion storedVersion;
+        try {
+            storedVersion = stagePersonsInChunks(operation, policyId, startDate, policyVersion, persons);
+        } catch (DuplicateKeyException exception) {
+            repository.deleteStaged(policyId, policyVersion);
+            throw new InputValidationException("The request insured persons ids should be unique");
+        } catch (RuntimeException exception) {
+            repository.deleteStaged(policyId, policyVersion);
+            throw exception;
+        }
+
+        try {
+            repository.publishStaged(policyId, policyVersion);
+        } catch (DuplicateKeyException exception) {
+            repository.unpublishStaged(policyId, policyVersion);
+            timelineCache.invalidateVersions(policyId);
+            throw new ConcurrentUpdateException();
+        } catch (RuntimeException exception) {
+            repository.unpublishStaged(policyId, policyVersion);
+            throw exception;
+        } finally {
+            repository.deleteStaged(policyId, policyVersion);
+        }
+        return storedVersion;
+    }
+
+    private StoredVersion stagePersonsInChunks(String operation, String policyId, LocalDate startDate, long policyVersion, Iterator<InsuredPerson> persons) {
+        var totalPremium = BigDecimal.ZERO;
+        var personsCount = 0;
+        var chunk = new ArrayList<InsuredPerson>(streamingConfig.getChunkSize());
+        while (persons.hasNext()) {
+            chunk.add(persons.next());
+            if (chunk.size() < streamingConfig.getChunkSize() && persons.hasNext()) {
+                continue;
+            }
+
+            var newPersonsCount = chunk.stream().filter(person -> person.getId() == null).count();
+            if (newPersonsCount > 0) {
+                var policyHead = headRepository.reservePersonIds(policyId, newPersonsCount);
+                generatePolicyIdsForNewPersons(chunk, policyHead.getNextPersonId() - newPersonsCount);
+            }
+
+            var entries = prepareEntriesForDb(policyId, startDate, policyVersion, chunk);
+            policyMetrics.recordInsertBatchSize(entries.size());
+            repository.insertStaged(entries);
+            var insuredPersons = entries.stream().map(getPolicyDataInsuredPersonFunction()).toList();
+
+            totalPremium = totalPremium.add(calculateTotalPremium(insuredPersons));
+            personsCount += insuredPersons.size();
+            chunk.clear();
+        }
+        policyMetrics.recordInsuredPersons(operation, personsCount);
+        return new StoredVersion(totalPremium, personsCount);
+    }
+
+    private void writeStoredPersons(String policyId, long policyVersion, BiConsumer<String, List<InsuredPerson>> storedPersons) {
+        var chunk = new ArrayList<InsuredPerson>(streamingConfig.getChunkSize());
+        try (var entries = repository.streamByPolicyIdAndPolicyVersionOrderByPersonId(policyId, policyVersion)) {
+            entries.map(getPolicyDataInsuredPersonFunction()).forEach(person -> {
+                chunk.add(person);
+                if (chunk.size() >= streamingConfig.getChunkSize()) {
+                    storedPersons.accept(policyId, List.copyOf(chunk));
+                    chunk.clear();
+                }
+            });
+        }
+        if (!chunk.isEmpty()) {
+            storedPersons.accept(policyId, chunk);
+        }
+    }
+
+    private void requireStreamableStorage() {
+        if (storageConfig.isDeltaMode()) {
+            throw new InputValidationException("Streaming writes are not available in delta storage mode");
+        }
+        if (snapshotConfig.isEnabled()) {
+            throw new InputValidationException("Streaming writes are not available while policy snapshots are enabled");
+        }
+    }
+
     @Transactional(readOnly = true)
+    @Timed(value = "policy.service", extraTags = {"operation", "info"}, histogram = true)
     public PolicyInfoResponse getPolicyInfo(String policyId, LocalDate requestDate) {
-        var personsOnMostRecentPolicy = getPolicyInsuredPeopleFromDb(policyId, requestDate);
-        var totalPremium = calculateTotalPremium(personsOnMostRecentPolicy);
+        return coalesce(policyInfoCalls, new PolicyInfoKey(policyId, requestDate, null), () -> readPolicyInfo(policyId, requestDate));
+    }
+
+    @Timed(value = "policy.service", extraTags = {"operation", "info-version"}, histogram = true)
+    public Long getPolicyInfoVersion(String policyId, LocalDate requestDate) {
+        return coalesce(policyInfoVersionCalls, new PolicyInfoKey(policyId, requestDate, null), () -> readPolicyInfoVersion(policyId, requestDate));
+    }
+
+    @Transactional(readOnly = true)
+    @Timed(value = "policy.service", extraTags = {"operation", "info"}, histogram = true)
+    public PolicyInfoResponse getPolicyInfo(String policyId, LocalDate requestDate, Long policyVersion) {
+        return coalesce(policyInfoCalls, new PolicyInfoKey(policyId, requestDate, policyVersion), () -> readPolicyInfo(policyId, requestDate, policyVersion));
+    }
+
+    private void invalidateReads(String policyId, long policyVersion) {
+        timelineCache.invalidateVersion(policyId, policyVersion);
+        policyInfoCalls.forget(key -> key.policyId().equals(policyId));
+        policyInfoVersionCalls.forget(key -> key.policyId().equals(policyId));
+    }
+
+    private <V> V coalesce(SingleFlight<PolicyInfoKey, V> calls, PolicyInfoKey key, Supplier<V> read) {
+        return coalescingConfig.isEnabled() ? calls.execute(key, coalescingConfig.getTimeout(), read) : read.get();
+    }
+
+    private PolicyInfoResponse readPolicyInfo(String policyId, LocalDate requestDate) {
+        if (!cacheConfig.isEnabled() && snapshotConfig.isEnabled()) {
+            var policyVersion = findEffectiveVersion(policyId, requestDate).orElseThrow(NoDataException::new);
+            return readPolicyInfo(policyId, requestDate, policyVersion);
+        }
+
+        var personsOnMostRecentPolicy = cacheConfig.isEnabled()
+                ? getPolicyInsuredPeopleFromCache(policyId, requestDate)
+                : getPolicyInsuredPeopleFromDb(policyId, requestDate);
+        return buildPolicyInfoResponse(policyId, requestDate, personsOnMostRecentPolicy, calculateTotalPremium(personsOnMostRecentPolicy));
+    }
+
+    private Long readPolicyInfoVersion(String policyId, LocalDate requestDate) {
+        var policyVersion = cacheConfig.isEnabled()
+                ? timelineCache.findEffectiveVersion(policyId, requestDate, this::findVersionsOfPolicy)
+                : findEffectiveVersion(policyId, requestDate);
+        return policyVersion.orElseThrow(NoDataException::new);
+    }
+
+    private PolicyInfoResponse readPolicyInfo(String policyId, LocalDate requestDate, Long policyVersion) {
+        if (cacheConfig.isEnabled()) {
+            var documentsRead = new AtomicInteger();
+            var insuredPersons = timelineCache.getInsuredPersons(policyId, policyVersion, () -> {
+                var persons = findInsuredPersonsOfVersion(policyId, policyVersion);
+                documentsRead.addAndGet(persons.size());
+                return persons;
+            });
+            policyMetrics.recordDocumentsRead(documentsRead.get());
+            return buildPolicyInfoResponse(policyId, requestDate, insuredPersons, calculateTotalPremium(insuredPersons));
+        }
+
+        if (snapshotConfig.isEnabled()) {
+            var snapshot = snapshotRepository.findById(policySnapshotId(policyId, policyVersion));
+            if (snapshot.isPresent()) {
+                policyMetrics.recordDocumentsRead(2);
+                return buildPolicyInfoResponse(policyId, requestDate, snapshot.get().getInsuredPersons(), snapshot.get().getTotalPremium());
+            }
+        }
+
+        if (storageConfig.isDeltaMode()) {
+            var insuredPersons = deltaStore.findInsuredPersons(policyId, policyVersion).orElseThrow(NoDataException::new);
+            return buildPolicyInfoResponse(policyId, requestDate, insuredPersons, calculateTotalPremium(insuredPersons));
+        }
+
+        var entries = repository.findPolicyInfoEntries(policyId, policyVersion);
+        if (entries.isEmpty()) {
+            throw new NoDataException();
+        }
+        policyMetrics.recordDocumentsRead(entries.size() + 1);
+        var insuredPersons = entries.stream().map(getPolicyDataInsuredPersonFunction()).toList();
+        return buildPolicyInfoResponse(policyId, requestDate, insuredPersons, calculateTotalPremium(insuredPersons));
+    }
+
+    @Timed(value = "policy.service", extraTags = {"operation", "persons"}, histogram = true)
+    public PolicyPersonsResponse getPolicyPersons(String policyId, LocalDate requestDate, String cursor, int limit) {
+        var position = cursor == null ? null : PolicyPersonsCursor.decode(policyId, cursor);
+        var policyVersion = position == null ? getPolicyInfoVersion(policyId, requestDate) : position.policyVersion();
+        var afterPersonId = position == null ? 0L : position.lastPersonId();
+
+        List<InsuredPerson> page;
+        Long personCount = null;
+        BigDecimal totalPremium = null;
+        if (storageConfig.isDeltaMode()) {
+            var insuredPersons = deltaStore.findInsuredPersons(policyId, policyVersion).orElseThrow(NoDataException::new);
+            page = insuredPersons.stream()
+                    .filter(person -> person.getId() > afterPersonId)
+                    .sorted(Comparator.comparing(InsuredPerson::getId))
+                    .limit(limit + 1L)
+                    .toList();
+            if (position == null) {
+                personCount = (long) insuredPersons.size();
+                totalPremium = calculateTotalPremium(insuredPersons);
+            }
+        } else {
+            page = repository.findPolicyPersonsPage(policyId, policyVersion, afterPersonId, limit + 1).stream()
+                    .map(getPolicyDataInsuredPersonFunction())
+                    .toList();
+            policyMetrics.recordDocumentsRead(page.size());
+            if (position == null) {
+                var versionPremium = repository.findPremiumOfVersion(policyId, policyVersion).stream().findFirst().orElseThrow(NoDataException::new);
+                personCount = versionPremium.getInsuredPersons();
+                totalPremium = versionPremium.getTotalPremium();
+            }
+        }
+
+        var hasMore = page.size() > limit;
+        var insuredPersons = hasMore ? page.subList(0, limit) : page;
+        policyMetrics.recordInsuredPersons("persons", insuredPersons.size());
+
+        return PolicyPersonsResponse.builder()
+                .policyId(policyId)
+                .requestDate(dateToString(requestDate))
+                .policyVersion(policyVersion)
+                .personCount(personCount)
+                .insuredPersons(insuredPersons)
+                .totalPremium(totalPremium)
+                .nextCursor(hasMore ? new PolicyPersonsCursor(policyId, policyVersion, insuredPersons.get(limit - 1).getId()).encode() : null)
+                .build();
+    }
+
+    private PolicyInfoResponse buildPolicyInfoResponse(String policyId, LocalDate requestDate, List<InsuredPerson> personsOnMostRecentPolicy, BigDecimal totalPremium) {
+        policyMetrics.recordInsuredPersons("info", personsOnMostRecentPolicy.size());
 
         return PolicyInfoResponse.builder()
                 .requestDate(dateToString(requestDate))
@@ -123,27 +704,351 @@ public class PolicyDataService {
                 .build();
     }
 
+    @Timed(value = "policy.service", extraTags = {"operation", "info-batch"}, histogram = true)
+    public List<PolicyInfoBatchItemResponse> getPolicyInfos(List<PolicyInfoRequestData> requests) {
+        var results = new PolicyInfoBatchItemResponse[requests.size()];
+        var requestDates = new LocalDate[requests.size()];
+        for (var index = 0; index < requests.size(); index++) {
+            var request = requests.get(index);
+            try {
+                if (request.getPolicyId() == null || request.getPolicyId().isBlank()) {
+                    throw new InputValidationException("The request should provide a policy Id");
+                }
+                requestDates[index] = request.getRequestDate() == null ? LocalDate.now() : stringToDate(request.getRequestDate());
+            } catch (InputValidationException | InvalidDateException exception) {
+                results[index] = PolicyInfoBatchItemResponse.builder()
+                        .index(index)
+                        .status(HttpStatus.BAD_REQUEST.value())
+                        .message(exception.getMessage())
+                        .build();
+            }
+        }
+
+        if (storageConfig.isDeltaMode()) {
+            return getPolicyInfosOneByOne(requests, requestDates, results);
+        }
+
+        var policyRequestDates = new HashMap<String, Set<LocalDate>>();
+        for (var index = 0; index < requests.size(); index++) {
+            if (results[index] == null) {
+                policyRequestDates.computeIfAbsent(requests.get(index).getPolicyId(), key -> new HashSet<>()).add(requestDates[index]);
+            }
+        }
+        var versionsByPolicy = policyRequestDates.isEmpty()
+                ? Map.<String, List<PolicyVersionStart>>of()
+                : repository.findPolicyInfoVersions(policyRequestDates).stream().collect(Collectors.groupingBy(PolicyVersionStart::getPolicyId));
+
+        var effectiveVersions = new Long[requests.size()];
+        var requestedVersions = new HashMap<String, Set<Long>>();
+        for (var index = 0; index < requests.size(); index++) {
+            if (results[index] != null) {
+                continue;
+            }
+            var policyId = requests.get(index).getPolicyId();
+            var requestDate = requestDates[index];
+            effectiveVersions[index] = versionsByPolicy.getOrDefault(policyId, List.of()).stream()
+                    .filter(version -> version.getStartDate().isBefore(requestDate))
+                    .map(PolicyVersionStart::getPolicyVersion)
+                    .max(Long::compare)
+                    .orElse(null);
+            if (effectiveVersions[index] != null) {
+                requestedVersions.computeIfAbsent(policyId, key -> new HashSet<>()).add(effectiveVersions[index]);
+            }
+        }
+        var entries = repository.findPolicyInfoEntries(requestedVersions);
+        policyMetrics.recordDocumentsRead(entries.size() + versionsByPolicy.values().stream().mapToInt(List::size).sum());
+        var entriesByVersion = entries.stream()
+                .collect(Collectors.groupingBy(entry -> entry.getPolicyId() + "_" + entry.getPolicyVersion()));
+
+        for (var index = 0; index < requests.size(); index++) {
+            if (results[index] != null) {
+                continue;
+            }
+            var policyId = requests.get(index).getPolicyId();
+            var versionEntries = effectiveVersions[index] == null ? null : entriesByVersion.get(policyId + "_" + effectiveVersions[index]);
+            if (versionEntries == null) {
+                results[index] = PolicyInfoBatchItemResponse.builder()
+                        .index(index)
+                        .status(HttpStatus.BAD_REQUEST.value())
+                        .message(NoDataException.MESSAGE)
+                        .build();
+                continue;
+            }
+            var insuredPersons = versionEntries.stream().map(getPolicyDataInsuredPersonFunction()).toList();
+            results[index] = PolicyInfoBatchItemResponse.builder()
+                    .index(index)
+                    .status(HttpStatus.OK.value())
+                    .policy(buildPolicyInfoResponse(policyId, requestDates[index], insuredPersons, calculateTotalPremium(insuredPersons)))
+                    .build();
+        }
+
+        return List.of(results);
+    }
+
+    private List<PolicyInfoBatchItemResponse> getPolicyInfosOneByOne(List<PolicyInfoRequestData> requests, LocalDate[] requestDates, PolicyInfoBatchItemResponse[] results) {
+        for (var index = 0; index < requests.size(); index++) {
+            if (results[index] != null) {
+                continue;
+            }
+            try {
+                results[index] = PolicyInfoBatchItemResponse.builder()
+                        .index(index)
+                        .status(HttpStatus.OK.value())
+                        .policy(readPolicyInfo(requests.get(index).getPolicyId(), requestDates[index]))
+                        .build();
+            } catch (NoDataException exception) {
+                results[index] = PolicyInfoBatchItemResponse.builder()
+                        .index(index)
+                        .status(HttpStatus.BAD_REQUEST.value())
+                        .message(NoDataException.MESSAGE)
+                        .build();
+            }
+        }
+        return List.of(results);
+    }
+
+    @Timed(value = "policy.service", extraTags = {"operation", "premiums"}, histogram = true)
+    public PolicyPremiumsResponse getPolicyPremiums(String policyId) {
+        var versions = storageConfig.isDeltaMode()
+                ? deltaRepository.findPremiumsByPolicyId(policyId)
+                : repository.findPremiumsByPolicyId(policyId);
+        if (versions.isEmpty()) {
+            throw new NoDataException();
+        }
+
+        return PolicyPremiumsResponse.builder()
+                .policyId(policyId)
+                .versions(versions.stream()
+                        .map(version -> PolicyPremiumsResponse.VersionPremium.builder()
+                                .policyVersion(version.getPolicyVersion())
+                                .startDate(dateToString(version.getStartDate()))
+                                .insuredPersons(version.getInsuredPersons())
+                                .totalPremium(version.getTotalPremium())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    @Timed(value = "policy.service", extraTags = {"operation", "premium-report"}, histogram = true)
+    public PremiumReportResponse getPremiumReport(LocalDate from, LocalDate to) {
+        var periods = storageConfig.isDeltaMode()
+                ? deltaRepository.findMonthlyPremiums(from, to.plusDays(1), ZoneId.systemDefault().getId())
+                : repository.findMonthlyPremiums(from, to.plusDays(1), ZoneId.systemDefault().getId());
+
+        return PremiumReportResponse.builder()
+                .from(dateToString(from))
+                .to(dateToString(to))
+                .periods(periods.stream()
+                        .map(period -> PremiumReportResponse.PeriodPremium.builder()
+                                .period(period.getPeriod())
+                                .policyVersions(period.getPolicyVersions())
+                                .totalPremium(period.getTotalPremium())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    @Timed(value = "policy.service", extraTags = {"operation", "history"}, histogram = true)
+    public void exportPolicyHistory(String policyId, Consumer<PolicyVersionResponse> consumer) {
+        if (!storageConfig.isDeltaMode()) {
+            exportRowHistory(policyId, consumer);
+            return;
+        }
+        if (policyId != null && deltaRepository.findFirstByPolicyIdOrderByPolicyVersionDesc(policyId).isEmpty()) {
+            throw new NoDataException();
+        }
+        deltaStore.exportHistory(policyId, consumer);
+    }
+
+    void exportRowHistory(String policyId, Consumer<PolicyVersionResponse> consumer) {
+        if (policyId != null && repository.findFirstByPolicyIdOrderByPolicyVersionDesc(policyId).isEmpty()) {
+            throw new NoDataException();
+        }
+
+        try (var rows = repository.streamHistory(policyId)) {
+            PolicyData versionStart = null;
+            var insuredPersons = new ArrayList<InsuredPerson>();
+            var totalPremium = BigDecimal.ZERO;
+
+            for (var iterator = rows.iterator(); iterator.hasNext(); ) {
+                var row = iterator.next();
+                if (versionStart != null && !(versionStart.getPolicyId().equals(row.getPolicyId()) && versionStart.getPolicyVersion().equals(row.getPolicyVersion()))) {
+                    consumer.accept(buildPolicyVersionResponse(versionStart, insuredPersons, totalPremium));
+                    insuredPersons = new ArrayList<>();
+                    totalPremium = BigDecimal.ZERO;
+                }
+                if (insuredPersons.isEmpty()) {
+                    versionStart = row;
+                }
+                insuredPersons.add(getPolicyDataInsuredPersonFunction().apply(row));
+                totalPremium = totalPremium.add(row.getPremium());
+            }
+            if (versionStart != null) {
+                consumer.accept(buildPolicyVersionResponse(versionStart, insuredPersons, totalPremium));
+            }
+        }
+    }
+
     private List<InsuredPerson> getPolicyInsuredPeopleFromDb(String policyId, LocalDate requestDate) {
-        var policyiesToDate = repository.findByPolicyIdAndLatestStartDate(policyId, requestDate);
-        var theMostRecentPolicyVersion = policyiesToDate.stream().map(PolicyData::getPolicyVersion).max(Comparator.naturalOrder()).orElseThrow(NoDataException::new);
+        var theMostRecentPolicyVersion = findEffectiveVersion(policyId, requestDate)
+                .orElseThrow(NoDataException::new);
+        if (storageConfig.isDeltaMode()) {
+            return deltaStore.findInsuredPersons(policyId, theMostRecentPolicyVersion).orElseThrow(NoDataException::new);
+        }
+
+        var entries = repository.findPolicyInfoEntries(policyId, theMostRecentPolicyVersion);
+        policyMetrics.recordDocumentsRead(entries.size() + 1);
 
-        return policyiesToDate.stream()
-                .filter(item -> item.getPolicyVersion().equals(theMostRecentPolicyVersion))
+        return entries.stream()
                 .map(getPolicyDataInsuredPersonFunction())
                 .toList();
     }
 
-    private ExistingPolicyDetails findRelevantExistingValuesForPolicy(String existingPolicyId) {
-        var existingDetails = repository.findAllDistinctByPolicyIdWithSelectedFields(existingPolicyId);
-        Function<PolicyData, Long> personIdMapper = PolicyData::getPersonId;
-        Function<PolicyData, Long> policyVersionMapper = PolicyData::getPolicyVersion;
+    private List<InsuredPerson> getPolicyInsuredPeopleFromCache(String policyId, LocalDate requestDate) {
+        var documentsRead = new AtomicInteger();
+        var theMostRecentPolicyVersion = timelineCache.findEffectiveVersion(policyId, requestDate, key -> {
+                    var versions = findVersionsOfPolicy(key);
+                    documentsRead.addAndGet(versions.size());
+                    return versions;
+                })
+                .orElseThrow(NoDataException::new);
+
+        var insuredPersons = timelineCache.getInsuredPersons(policyId, theMostRecentPolicyVersion, () -> {
+            var persons = findInsuredPersonsOfVersion(policyId, theMostRecentPolicyVersion);
+            documentsRead.addAndGet(persons.size());
+            return persons;
+        });
+        policyMetrics.recordDocumentsRead(documentsRead.get());
+        return insuredPersons;
+    }
+
+    private Optional<Long> findEffectiveVersion(String policyId, LocalDate requestDate) {
+        return storageConfig.isDeltaMode()
+                ? deltaStore.findEffectiveVersion(policyId, requestDate)
+                : repository.findPolicyInfoVersion(policyId, requestDate);
+    }
+
+    private List<PolicyVersionInfo> findVersionsOfPolicy(String policyId) {
+        var committedVersion = headRepository.findById(policyId)
+                .map(policyHead -> policyHead.getCommittedVersion() != null ? policyHead.getCommittedVersion() : policyHead.getPolicyVersion())
+                .orElse(Long.MAX_VALUE);
+        var versions = storageConfig.isDeltaMode()
+                ? deltaRepository.findVersionsByPolicyId(policyId)
+                : repository.findVersionsByPolicyId(policyId);
+        return versions.stream()
+                .filter(version -> version.getPolicyVersion() <= committedVersion)
+                .toList();
+    }
+
+    private List<InsuredPerson> findInsuredPersonsOfVersion(String policyId, Long policyVersion) {
+        if (storageConfig.isDeltaMode()) {
+            return deltaStore.findInsuredPersons(policyId, policyVersion).orElse(List.of());
+        }
+        return repository.findByPolicyIdAndPolicyVersion(policyId, policyVersion).stream()
+                .map(getPolicyDataInsuredPersonFunction())
+                .toList();
+    }
+
+    private String claimPolicyId(PolicyHead policyHead) {
+        for (var attempt = 1; ; attempt++) {
+            policyHead.setPolicyId(policyIdGenerator.nextId());
+            try {
+                headRepository.insert(policyHead);
+                return policyHead.getPolicyId();
+            } catch (DuplicateKeyException exception) {
+                if (attempt >= idConfig.getMaxAttempts()) {
+                    throw new ConcurrentUpdateException();
+                }
+            }
+        }
+    }
+
+    private PolicyChange buildPolicyChange(String policyId, long policyVersion, LocalDate startDate, int insuredPersons) {
+        return PolicyChange.builder()
+                .policyId(policyId)
+                .policyVersion(policyVersion)
+                .startDate(startDate)
+                .insuredPersons(insuredPersons)
+                .storedAt(Instant.now())
+                .build();
+    }
+
+    private void recordChanges(List<PolicyChange> changes) {
+        if (changeStreamConfig.isEnabled() && !changes.isEmpty()) {
+            changeRepository.insert(changes);
+        }
+    }
+
+    private Set<Integer> claimPolicyIds(List<PolicyHead> policyHeads, boolean regenerateTakenIds) {
+        var failedPolicies = new HashSet<>(headRepository.insertUnordered(policyHeads));
+        for (var attempt = 1; regenerateTakenIds && !failedPolicies.isEmpty() && attempt < idConfig.getMaxAttempts(); attempt++) {
+            var retriedPolicies = failedPolicies.stream().sorted().toList();
+            var retriedHeads = retriedPolicies.stream().map(policyHeads::get).toList();
+            retriedHeads.forEach(policyHead -> policyHead.setPolicyId(policyIdGenerator.nextId()));
+            failedPolicies = headRepository.insertUnordered(retriedHeads).stream()
+                    .map(retriedPolicies::get)
+                    .collect(Collectors.toCollection(HashSet::new));
+        }
+        return failedPolicies;
+    }
+
+    private PolicyHead allocateNextPolicyVersion(String policyId, long newPersonsCount) {
+        var policyHead = headRepository.allocateNextVersion(policyId, newPersonsCount);
+        if (policyHead == null) {
+            initializePolicyHeadFromExistingData(policyId);
+            policyHead = headRepository.allocateNextVersion(policyId, newPersonsCount);
+        }
+        return policyHead;
+    }
+
+    private void recoverFromVersionConflict(String policyId, int attempt) {
+        timelineCache.invalidateVersions(policyId);
+        if (attempt >= updateConfig.getMaxAttempts()) {
+            throw new ConcurrentUpdateException();
+        }
+
+        var existingPolicyDetails = findRelevantExistingValuesForPolicy(policyId);
+        headRepository.synchronizeWithExistingData(policyId,
+                existingPolicyDetails.getLargestExistingPolicyVersion(),
+                existingPolicyDetails.getLargestExistingPersonsIds() + 1);
+
+        var backoff = Math.min(updateConfig.getInitialBackoff().toMillis() << (attempt - 1), updateConfig.getMaxBackoff().toMillis());
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoff / 2, backoff + 1));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentUpdateException();
+        }
+    }
 
-        var currentBiggestPersonId = getMaximumValueByCriteria(existingDetails, personIdMapper);
-        var currentPolicyVersion = getMaximumValueByCriteria(existingDetails, policyVersionMapper);
+    private void initializePolicyHeadFromExistingData(String policyId) {
+        var existingPolicyDetails = findRelevantExistingValuesForPolicy(policyId);
+        try {
+            headRepository.insert(PolicyHead.builder()
+                    .policyId(policyId)
+                    .policyVersion(existingPolicyDetails.getLargestExistingPolicyVersion())
+                    .nextPersonId(existingPolicyDetails.getLargestExistingPersonsIds() + 1)
+                    .committedVersion(existingPolicyDetails.getLargestExistingPolicyVersion())
+                    .build());
+        } catch (DuplicateKeyException exception) {
+            // another update initialized the head in the meantime
+        }
+    }
+
+    private ExistingPolicyDetails findRelevantExistingValuesForPolicy(String existingPolicyId) {
+        if (storageConfig.isDeltaMode()) {
+            return deltaStore.findExistingPolicyDetails(existingPolicyId).orElseThrow(NoDataException::new);
+        }
+        var currentBiggestPersonId = repository.findFirstByPolicyIdOrderByPersonIdDesc(existingPolicyId)
+                .map(PolicyData::getPersonId)
+                .orElseThrow(NoDataException::new);
+        var currentPolicyVersion = repository.findFirstByPolicyIdOrderByPolicyVersionDesc(existingPolicyId)
+                .map(PolicyData::getPolicyVersion)
+                .orElseThrow(NoDataException::new);
         return ExistingPolicyDetails.builder().largestExistingPolicyVersion(currentPolicyVersion).largestExistingPersonsIds(currentBiggestPersonId).build();
     }
 
-    private List<InsuredPerson> generatePolicyIdsForNewPersons(List<InsuredPerson> persons, Long nextAvailablePersonId) {
+    static List<InsuredPerson> generatePolicyIdsForNewPersons(List<InsuredPerson> persons, Long nextAvailablePersonId) {
         for (InsuredPerson person : persons) {
             if (person.getId() == null) {
                 person.setId(nextAvailablePersonId++);
@@ -152,8 +1057,10 @@ public class PolicyDataService {
         return persons;
     }
 
-    private String generateRandomId() {
-        return RandomStringUtils.randomAlphanumeric(9).toUpperCase();
+    private record StoredVersion(BigDecimal totalPremium, int insuredPersons) {
+    }
+
+    private record PolicyInfoKey(String policyId, LocalDate requestDate, Long policyVersion) {
     }
 
 }
@@ -0,0 +1,75 @@
+package com.policymanagement.policymanagementservice.service;
+
+import com.policymanagement.policymanagementservice.config.StorageConfig;
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.domain.PolicyDelta;
+import com.policymanagement.policymanagementservice.repository.PolicyDeltaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+import static com.policymanagement.policymanagementservice.util.DateUtils.stringToDate;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "policy.storage", name = "migrate-on-startup", havingValue = "true")
+public class PolicyDeltaMigration implements ApplicationRunner {
+
+    @Autowired
+    PolicyDataService policyDataService;
+
+    @Autowired
+    PolicyDeltaRepository deltaRepository;
+
+    @Autowired
+    StorageConfig storageConfig;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Migrating policy versions to delta storage");
+        var written = migrate();
+        log.info("Migrated {} policy versions to delta storage", written);
+    }
+
+    public long migrate() {
+        var batch = new ArrayList<PolicyDelta>(storageConfig.getMigrationBatchSize());
+        var written = new long[1];
+        var previous = new PolicyDelta[1];
+        var previousPersons = new LinkedHashMap<Long, InsuredPerson>();
+
+        policyDataService.exportRowHistory(null, version -> {
+            if (previous[0] != null && !previous[0].getPolicyId().equals(version.getPolicyId())) {
+                previous[0] = null;
+                previousPersons.clear();
+            }
+            var delta = PolicyDeltaStore.buildDelta(version.getPolicyId(), version.getPolicyVersion(), stringToDate(version.getStartDate()),
+                    version.getInsuredPersons(), previous[0], previousPersons, storageConfig.getCheckpointInterval());
+            PolicyDeltaStore.applyDelta(previousPersons, delta);
+            previous[0] = delta;
+
+            batch.add(delta);
+            if (batch.size() >= storageConfig.getMigrationBatchSize()) {
+                written[0] += save(batch);
+            }
+        });
+        written[0] += save(batch);
+
+        return written[0];
+    }
+
+    private int save(ArrayList<PolicyDelta> batch) {
+        var size = batch.size();
+        if (size > 0) {
+            deltaRepository.upsertAll(batch);
+            batch.clear();
+        }
+        return size;
+    }
+
+}
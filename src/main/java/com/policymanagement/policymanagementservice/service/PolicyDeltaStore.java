@@ -0,0 +1,191 @@
+package com.policymanagement.policymanagementservice.service;
+
+import com.policymanagement.policymanagementservice.config.StorageConfig;
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.data.response.PolicyVersionResponse;
+import com.policymanagement.policymanagementservice.domain.ExistingPolicyDetails;
+import com.policymanagement.policymanagementservice.domain.PolicyDelta;
+import com.policymanagement.policymanagementservice.repository.PolicyDeltaRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static com.policymanagement.policymanagementservice.util.DateUtils.dateToString;
+
+@Component
+public class PolicyDeltaStore {
+
+    @Autowired
+    PolicyDeltaRepository deltaRepository;
+
+    @Autowired
+    StorageConfig storageConfig;
+
+    @Autowired
+    PolicyMetrics policyMetrics;
+
+    static String policyDeltaId(String policyId, Long policyVersion) {
+        return policyId + "_" + policyVersion;
+    }
+
+    static boolean isCheckpoint(PolicyDelta delta) {
+        return delta.getPolicyVersion().equals(delta.getCheckpointVersion());
+    }
+
+    static PolicyDelta buildCheckpoint(String policyId, Long policyVersion, LocalDate startDate, List<InsuredPerson> persons, Long maxPersonId) {
+        return PolicyDelta.builder()
+                .id(policyDeltaId(policyId, policyVersion))
+                .policyId(policyId)
+                .policyVersion(policyVersion)
+                .startDate(startDate)
+                .checkpointVersion(policyVersion)
+                .upsertedPersons(List.copyOf(persons))
+                .removedPersonIds(List.of())
+                .personCount((long) persons.size())
+                .maxPersonId(Math.max(maxPersonId, maxPersonId(persons)))
+                .totalPremium(PolicyDataService.calculateTotalPremium(persons))
+                .build();
+    }
+
+    static PolicyDelta buildDelta(String policyId, Long policyVersion, LocalDate startDate, List<InsuredPerson> persons,
+                                  PolicyDelta previous, Map<Long, InsuredPerson> previousPersons, int checkpointInterval) {
+        if (previous == null) {
+            return buildCheckpoint(policyId, policyVersion, startDate, persons, 0L);
+        }
+        if (previous.getPolicyVersion() != policyVersion - 1 || policyVersion - previous.getCheckpointVersion() >= checkpointInterval) {
+            return buildCheckpoint(policyId, policyVersion, startDate, persons, previous.getMaxPersonId());
+        }
+
+        var upsertedPersons = new ArrayList<InsuredPerson>();
+        var removedPersonIds = new HashSet<>(previousPersons.keySet());
+        for (var person : persons) {
+            removedPersonIds.remove(person.getId());
+            if (!person.equals(previousPersons.get(person.getId()))) {
+                upsertedPersons.add(person);
+            }
+        }
+        if (upsertedPersons.size() + removedPersonIds.size() >= persons.size()) {
+            return buildCheckpoint(policyId, policyVersion, startDate, persons, previous.getMaxPersonId());
+        }
+
+        return PolicyDelta.builder()
+                .id(policyDeltaId(policyId, policyVersion))
+                .policyId(policyId)
+                .policyVersion(policyVersion)
+                .startDate(startDate)
+                .checkpointVersion(previous.getCheckpointVersion())
+                .upsertedPersons(upsertedPersons)
+                .removedPersonIds(removedPersonIds.stream().sorted().toList())
+                .personCount((long) persons.size())
+                .maxPersonId(Math.max(previous.getMaxPersonId(), maxPersonId(persons)))
+                .totalPremium(PolicyDataService.calculateTotalPremium(persons))
+                .build();
+    }
+
+    static Map<Long, InsuredPerson> applyDelta(Map<Long, InsuredPerson> persons, PolicyDelta delta) {
+        if (isCheckpoint(delta)) {
+            persons.clear();
+        }
+        delta.getRemovedPersonIds().forEach(persons::remove);
+        delta.getUpsertedPersons().forEach(person -> persons.put(person.getId(), person));
+        return persons;
+    }
+
+    private static long maxPersonId(List<InsuredPerson> persons) {
+        return persons.stream().mapToLong(InsuredPerson::getId).max().orElse(0L);
+    }
+
+    private static Map<Long, InsuredPerson> reconstruct(List<PolicyDelta> chain) {
+        var persons = new LinkedHashMap<Long, InsuredPerson>();
+        chain.forEach(delta -> applyDelta(persons, delta));
+        return persons;
+    }
+
+    public PolicyDelta write(String policyId, Long policyVersion, LocalDate startDate, List<InsuredPerson> persons) {
+        PolicyDelta previous = null;
+        Map<Long, InsuredPerson> previousPersons = Map.of();
+        if (policyVersion > 1) {
+            var chain = deltaRepository.findVersionChain(policyId, policyVersion - 1);
+            if (!chain.isEmpty() && isCheckpoint(chain.get(0))) {
+                previous = chain.get(chain.size() - 1);
+                previousPersons = reconstruct(chain);
+            }
+        }
+
+        var delta = buildDelta(policyId, policyVersion, startDate, persons, previous, previousPersons, storageConfig.getCheckpointInterval());
+        deltaRepository.insert(delta);
+        recordPersonsWritten(delta);
+        return delta;
+    }
+
+    public Set<Integer> insertCheckpoints(List<PolicyDelta> checkpoints) {
+        var failed = deltaRepository.insertUnordered(checkpoints);
+        for (var index = 0; index < checkpoints.size(); index++) {
+            if (!failed.contains(index)) {
+                recordPersonsWritten(checkpoints.get(index));
+            }
+        }
+        return failed;
+    }
+
+    public Optional<Long> findEffectiveVersion(String policyId, LocalDate requestDate) {
+        return deltaRepository.findPolicyInfoVersion(policyId, requestDate);
+    }
+
+    public Optional<List<InsuredPerson>> findInsuredPersons(String policyId, Long policyVersion) {
+        var chain = deltaRepository.findVersionChain(policyId, policyVersion);
+        policyMetrics.recordDocumentsRead(chain.size());
+        if (chain.isEmpty() || !chain.get(chain.size() - 1).getPolicyVersion().equals(policyVersion)) {
+            return Optional.empty();
+        }
+        if (!isCheckpoint(chain.get(0))) {
+            throw new IllegalStateException("No checkpoint found for version " + policyVersion + " of policy " + policyId);
+        }
+        return Optional.of(List.copyOf(reconstruct(chain).values()));
+    }
+
+    public Optional<ExistingPolicyDetails> findExistingPolicyDetails(String policyId) {
+        return deltaRepository.findFirstByPolicyIdOrderByPolicyVersionDesc(policyId)
+                .map(delta -> ExistingPolicyDetails.builder()
+                        .largestExistingPolicyVersion(delta.getPolicyVersion())
+                        .largestExistingPersonsIds(delta.getMaxPersonId())
+                        .build());
+    }
+
+    public void exportHistory(String policyId, Consumer<PolicyVersionResponse> consumer) {
+        try (var deltas = deltaRepository.streamHistory(policyId)) {
+            String currentPolicyId = null;
+            var persons = new LinkedHashMap<Long, InsuredPerson>();
+
+            for (var iterator = deltas.iterator(); iterator.hasNext(); ) {
+                var delta = iterator.next();
+                if (!delta.getPolicyId().equals(currentPolicyId)) {
+                    currentPolicyId = delta.getPolicyId();
+                    persons.clear();
+                }
+                applyDelta(persons, delta);
+                consumer.accept(PolicyVersionResponse.builder()
+                        .policyId(delta.getPolicyId())
+                        .policyVersion(delta.getPolicyVersion())
+                        .startDate(dateToString(delta.getStartDate()))
+                        .insuredPersons(List.copyOf(persons.values()))
+                        .totalPremium(delta.getTotalPremium())
+                        .build());
+            }
+        }
+    }
+
+    private void recordPersonsWritten(PolicyDelta delta) {
+        policyMetrics.recordPersonsWritten(isCheckpoint(delta), delta.getUpsertedPersons().size() + delta.getRemovedPersonIds().size());
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.policymanagement.policymanagementservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PolicyMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary documentsRead;
+    private final DistributionSummary versions;
+    private final DistributionSummary insertBatchSize;
+
+    public PolicyMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        documentsRead = summary("policy.info.documents.read", "documents");
+        versions = summary("policy.versions", "versions");
+        insertBatchSize = summary("policy.insert.batch.size", "documents");
+    }
+
+    public void recordDocumentsRead(int documents) {
+        documentsRead.record(documents);
+    }
+
+    public void recordVersions(long policyVersion) {
+        versions.record(policyVersion);
+    }
+
+    public void recordInsertBatchSize(int documents) {
+        insertBatchSize.record(documents);
+    }
+
+    public void recordInsuredPersons(String operation, int insuredPersons) {
+        DistributionSummary.builder("policy.insured.persons")
+                .baseUnit("persons")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(insuredPersons);
+    }
+
+    public void recordPersonsWritten(boolean checkpoint, int persons) {
+        DistributionSummary.builder("policy.storage.persons.written")
+                .baseUnit("persons")
+                .tag("kind", checkpoint ? "checkpoint" : "delta")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(persons);
+    }
+
+    public void recordCoalescedCall(String operation, boolean shared) {
+        Counter.builder("policy.coalescing.calls")
+                .tag("operation", operation)
+                .tag("role", shared ? "follower" : "leader")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private DistributionSummary summary(String name, String baseUnit) {
+        return DistributionSummary.builder(name)
+                .baseUnit(baseUnit)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.policymanagement.policymanagementservice.service;
+
+import com.policymanagement.policymanagementservice.exception.InputValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+record PolicyPersonsCursor(String policyId, long policyVersion, long lastPersonId) {
+
+    static final String INVALID_CURSOR_MESSAGE = "The cursor is invalid";
+
+    String encode() {
+        var value = policyId + ":" + policyVersion + ":" + lastPersonId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static PolicyPersonsCursor decode(String policyId, String cursor) {
+        try {
+            var parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3 || !parts[0].equals(policyId)) {
+                throw new InputValidationException(INVALID_CURSOR_MESSAGE);
+            }
+            return new PolicyPersonsCursor(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException exception) {
+            throw new InputValidationException(INVALID_CURSOR_MESSAGE);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.policymanagement.policymanagementservice.service;
+
+import com.policymanagement.policymanagementservice.config.SnapshotConfig;
+import com.policymanagement.policymanagementservice.domain.PolicySnapshot;
+import com.policymanagement.policymanagementservice.repository.PolicySnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+
+import static com.policymanagement.policymanagementservice.util.DateUtils.stringToDate;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "policy.snapshots", name = "backfill-on-startup", havingValue = "true")
+public class PolicySnapshotBackfill implements ApplicationRunner {
+
+    @Autowired
+    PolicyDataService policyDataService;
+
+    @Autowired
+    PolicySnapshotRepository snapshotRepository;
+
+    @Autowired
+    SnapshotConfig snapshotConfig;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Backfilling policy snapshots");
+        var written = backfill();
+        log.info("Backfilled {} policy snapshots", written);
+    }
+
+    public long backfill() {
+        var batch = new ArrayList<PolicySnapshot>(snapshotConfig.getBackfillBatchSize());
+        var written = new long[1];
+
+        policyDataService.exportPolicyHistory(null, version -> {
+            batch.add(PolicyDataService.buildPolicySnapshot(version.getPolicyId(), version.getPolicyVersion(),
+                    stringToDate(version.getStartDate()), version.getInsuredPersons(), version.getTotalPremium()));
+            if (batch.size() >= snapshotConfig.getBackfillBatchSize()) {
+                written[0] += save(batch);
+            }
+        });
+        written[0] += save(batch);
+
+        return written[0];
+    }
+
+    private int save(ArrayList<PolicySnapshot> batch) {
+        var size = batch.size();
+        if (size > 0) {
+            snapshotRepository.upsertAll(batch);
+            batch.clear();
+        }
+        return size;
+    }
+
+}
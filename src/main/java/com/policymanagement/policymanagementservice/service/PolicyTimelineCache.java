@@ -0,0 +1,77 @@
+package com.policymanagement.policymanagementservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.policymanagement.policymanagementservice.config.CacheConfig;
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.domain.PolicyVersionInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+public class PolicyTimelineCache {
+
+    private final Cache<String, List<PolicyVersionInfo>> timelines;
+    private final Cache<PolicyVersionKey, List<InsuredPerson>> insuredPersons;
+
+    public PolicyTimelineCache(CacheConfig cacheConfig, MeterRegistry meterRegistry) {
+        timelines = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumPolicies())
+                .expireAfterWrite(cacheConfig.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        insuredPersons = Caffeine.newBuilder()
+                .maximumWeight(cacheConfig.getMaximumInsuredPersons())
+                .<PolicyVersionKey, List<InsuredPerson>>weigher((key, persons) -> persons.size())
+                .expireAfterAccess(cacheConfig.getInsuredPersonsExpireAfterAccess())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, timelines, "policyTimelines");
+        CaffeineCacheMetrics.monitor(meterRegistry, insuredPersons, "policyVersionPersons");
+    }
+
+    public Optional<Long> findEffectiveVersion(String policyId, LocalDate requestDate, Function<String, List<PolicyVersionInfo>> timelineLoader) {
+        var timeline = timelines.get(policyId, key -> {
+            var versions = timelineLoader.apply(key);
+            return versions.isEmpty() ? null : versions;
+        });
+        if (timeline == null) {
+            return Optional.empty();
+        }
+
+        return timeline.stream()
+                .filter(version -> version.getStartDate().isBefore(requestDate))
+                .map(PolicyVersionInfo::getPolicyVersion)
+                .max(Long::compare);
+    }
+
+    public List<InsuredPerson> getInsuredPersons(String policyId, Long policyVersion, Supplier<List<InsuredPerson>> personsLoader) {
+        return insuredPersons.get(new PolicyVersionKey(policyId, policyVersion), key -> personsLoader.get());
+    }
+
+    public void invalidate(String policyId) {
+        timelines.invalidate(policyId);
+    }
+
+    public void invalidateVersion(String policyId, Long policyVersion) {
+        timelines.invalidate(policyId);
+        insuredPersons.invalidate(new PolicyVersionKey(policyId, policyVersion));
+    }
+
+    public void invalidateVersions(String policyId) {
+        timelines.invalidate(policyId);
+        insuredPersons.asMap().keySet().removeIf(key -> key.policyId().equals(policyId));
+    }
+
+    private record PolicyVersionKey(String policyId, Long policyVersion) {
+    }
+
+}
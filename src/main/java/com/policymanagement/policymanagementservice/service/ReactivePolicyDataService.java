@@ -0,0 +1,254 @@
+package com.policymanagement.policymanagementservice.service;
+
+import com.policymanagement.policymanagementservice.config.CacheConfig;
+import com.policymanagement.policymanagementservice.config.ChangeStreamConfig;
+import com.policymanagement.policymanagementservice.config.IdConfig;
+import com.policymanagement.policymanagementservice.config.SnapshotConfig;
+import com.policymanagement.policymanagementservice.config.StorageConfig;
+import com.policymanagement.policymanagementservice.config.UpdateConfig;
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.data.request.PolicyUpdateRequestData;
+import com.policymanagement.policymanagementservice.data.response.PolicyCreateResponse;
+import com.policymanagement.policymanagementservice.data.response.PolicyInfoResponse;
+import com.policymanagement.policymanagementservice.data.response.PolicyUpdateResponse;
+import com.policymanagement.policymanagementservice.data.response.PolicyVersionResponse;
+import com.policymanagement.policymanagementservice.domain.PolicyChange;
+import com.policymanagement.policymanagementservice.domain.PolicyData;
+import com.policymanagement.policymanagementservice.domain.PolicyHead;
+import com.policymanagement.policymanagementservice.exception.ConcurrentUpdateException;
+import com.policymanagement.policymanagementservice.exception.NoDataException;
+import com.policymanagement.policymanagementservice.repository.reactive.ReactivePolicyChangeRepository;
+import com.policymanagement.policymanagementservice.repository.reactive.ReactivePolicyDataRepository;
+import com.policymanagement.policymanagementservice.repository.reactive.ReactivePolicyHeadRepository;
+import com.policymanagement.policymanagementservice.service.id.PolicyIdGenerator;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.policymanagement.policymanagementservice.service.PolicyDataService.buildPolicyVersionResponse;
+import static com.policymanagement.policymanagementservice.service.PolicyDataService.calculateTotalPremium;
+import static com.policymanagement.policymanagementservice.service.PolicyDataService.generatePolicyIdsForNewPersons;
+import static com.policymanagement.policymanagementservice.service.PolicyDataService.getPolicyDataInsuredPersonFunction;
+import static com.policymanagement.policymanagementservice.service.PolicyDataService.prepareEntriesForDb;
+import static com.policymanagement.policymanagementservice.util.DateUtils.dateToString;
+import static com.policymanagement.policymanagementservice.util.DateUtils.stringToDate;
+
+@Service
+@Profile("reactive")
+public class ReactivePolicyDataService {
+    @Autowired
+    ReactivePolicyDataRepository repository;
+
+    @Autowired
+    ReactivePolicyHeadRepository headRepository;
+
+    @Autowired
+    UpdateConfig updateConfig;
+
+    @Autowired
+    IdConfig idConfig;
+
+    @Autowired
+    PolicyIdGenerator policyIdGenerator;
+
+    @Autowired
+    ChangeStreamConfig changeStreamConfig;
+
+    @Autowired
+    ReactivePolicyChangeRepository changeRepository;
+
+    @Autowired
+    StorageConfig storageConfig;
+
+    @Autowired
+    SnapshotConfig snapshotConfig;
+
+    @Autowired
+    CacheConfig cacheConfig;
+
+    @PostConstruct
+    void requireSupportedConfiguration() {
+        if (storageConfig.isDeltaMode()) {
+            throw new IllegalStateException("The reactive profile does not support the delta storage mode");
+        }
+        if (snapshotConfig.isEnabled()) {
+            throw new IllegalStateException("The reactive profile does not support policy snapshots");
+        }
+        if (cacheConfig.isEnabled()) {
+            throw new IllegalStateException("The reactive profile does not support the policy info cache");
+        }
+    }
+
+    public Mono<PolicyCreateResponse> createNewPolicy(PolicyCreateRequestData request) {
+        var policyVersion = 1L;
+        var nextAvailablePersonId = 1L;
+
+        var startDate = stringToDate(request.getStartDate());
+        var persons = generatePolicyIdsForNewPersons(request.getInsuredPersons(), nextAvailablePersonId);
+
+        return claimPolicyId(policyVersion, nextAvailablePersonId + persons.size(), startDate, calculateTotalPremium(persons))
+                .flatMap(policyId -> repository.insert(prepareEntriesForDb(policyId, startDate, policyVersion, persons))
+                        .map(getPolicyDataInsuredPersonFunction())
+                        .collectList()
+                        .onErrorResume(exception -> headRepository.deleteById(policyId).then(Mono.error(exception)))
+                        .flatMap(insuredPersons -> headRepository.commitVersion(policyId, policyVersion, startDate, calculateTotalPremium(insuredPersons))
+                                .thenReturn(insuredPersons))
+                        .flatMap(insuredPersons -> recordChange(policyId, policyVersion, startDate, insuredPersons))
+                        .map(insuredPersons -> PolicyCreateResponse.builder()
+                                .startDate(dateToString(startDate))
+                                .policyId(policyId)
+                                .insuredPersons(insuredPersons)
+                                .totalPremium(calculateTotalPremium(insuredPersons))
+                                .build()));
+    }
+
+    private Mono<String> claimPolicyId(long policyVersion, long nextPersonId, LocalDate startDate, BigDecimal totalPremium) {
+        return Mono.fromCallable(policyIdGenerator::nextId)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(policyId -> headRepository.insert(PolicyHead.builder()
+                        .policyId(policyId)
+                        .policyVersion(policyVersion)
+                        .nextPersonId(nextPersonId)
+                        .startDate(startDate)
+                        .totalPremium(totalPremium)
+                        .committedVersion(0L)
+                        .build()))
+                .map(PolicyHead::getPolicyId)
+                .retryWhen(Retry.max(idConfig.getMaxAttempts() - 1)
+                        .filter(DuplicateKeyException.class::isInstance)
+                        .onRetryExhaustedThrow((spec, signal) -> new ConcurrentUpdateException()));
+    }
+
+    public Mono<PolicyUpdateResponse> addPolicyUpdate(PolicyUpdateRequestData request) {
+        var policyId = request.getPolicyId();
+        var effectiveDate = stringToDate(request.getEffectiveDate());
+        var newPersons = request.getInsuredPersons().stream().filter(person -> person.getId() == null).toList();
+
+        var retry = Retry.backoff(updateConfig.getMaxAttempts() - 1L, updateConfig.getInitialBackoff())
+                .maxBackoff(updateConfig.getMaxBackoff())
+                .filter(DuplicateKeyException.class::isInstance)
+                .onRetryExhaustedThrow((retrySpec, retrySignal) -> new ConcurrentUpdateException());
+
+        return Mono.defer(() -> insertNextVersion(policyId, effectiveDate, request.getInsuredPersons(), newPersons))
+                .retryWhen(retry)
+                .map(insuredPersons -> PolicyUpdateResponse.builder()
+                        .effectiveDate(dateToString(effectiveDate))
+                        .policyId(policyId)
+                        .insuredPersons(insuredPersons)
+                        .totalPremium(calculateTotalPremium(insuredPersons))
+                        .build());
+    }
+
+    public Mono<PolicyInfoResponse> getPolicyInfo(String policyId, LocalDate requestDate) {
+        return repository.findFirstByPolicyIdAndStartDateBeforeOrderByPolicyVersionDesc(policyId, requestDate)
+                .switchIfEmpty(Mono.error(NoDataException::new))
+                .flatMapMany(version -> repository.findByPolicyIdAndPolicyVersion(policyId, version.getPolicyVersion()))
+                .map(getPolicyDataInsuredPersonFunction())
+                .collectList()
+                .map(personsOnMostRecentPolicy -> PolicyInfoResponse.builder()
+                        .requestDate(dateToString(requestDate))
+                        .policyId(policyId)
+                        .insuredPersons(personsOnMostRecentPolicy)
+                        .totalPremium(calculateTotalPremium(personsOnMostRecentPolicy))
+                        .build());
+    }
+
+    public Flux<PolicyVersionResponse> exportPolicyHistory(String policyId) {
+        var rows = policyId == null
+                ? repository.findAll(Sort.by("policyId", "policyVersion", "personId"))
+                : repository.findFirstByPolicyIdOrderByPolicyVersionDesc(policyId)
+                .switchIfEmpty(Mono.error(NoDataException::new))
+                .thenMany(repository.findByPolicyIdOrderByPolicyVersionAscPersonIdAsc(policyId));
+
+        return rows
+                .bufferUntilChanged(row -> row.getPolicyId() + ":" + row.getPolicyVersion())
+                .map(versionRows -> buildPolicyVersionResponse(versionRows.get(0),
+                        versionRows.stream().map(getPolicyDataInsuredPersonFunction()).toList(),
+                        versionRows.stream().map(PolicyData::getPremium).reduce(BigDecimal.ZERO, BigDecimal::add)));
+    }
+
+    private Mono<List<InsuredPerson>> insertNextVersion(String policyId, LocalDate effectiveDate, List<InsuredPerson> requestPersons, List<InsuredPerson> newPersons) {
+        newPersons.forEach(person -> person.setId(null));
+        var newPersonsCount = newPersons.size();
+
+        return allocateNextPolicyVersion(policyId, newPersonsCount)
+                .flatMap(policyHead -> {
+                    var persons = generatePolicyIdsForNewPersons(requestPersons, policyHead.getNextPersonId() - newPersonsCount);
+                    var policyPersonsData = prepareEntriesForDb(policyId, effectiveDate, policyHead.getPolicyVersion(), persons);
+
+                    return repository.insert(policyPersonsData)
+                            .map(getPolicyDataInsuredPersonFunction())
+                            .collectList()
+                            .onErrorResume(DuplicateKeyException.class, exception -> repository
+                                    .deleteAllById(policyPersonsData.stream().map(PolicyData::getId).toList())
+                                    .then(synchronizePolicyHead(policyId))
+                                    .then(Mono.error(exception)))
+                            .flatMap(insuredPersons -> headRepository.commitVersion(policyId, policyHead.getPolicyVersion(), effectiveDate, calculateTotalPremium(insuredPersons))
+                                    .thenReturn(insuredPersons))
+                            .flatMap(insuredPersons -> recordChange(policyId, policyHead.getPolicyVersion(), effectiveDate, insuredPersons));
+                });
+    }
+
+    private Mono<List<InsuredPerson>> recordChange(String policyId, long policyVersion, LocalDate startDate, List<InsuredPerson> insuredPersons) {
+        if (!changeStreamConfig.isEnabled()) {
+            return Mono.just(insuredPersons);
+        }
+        return changeRepository.insert(PolicyChange.builder()
+                        .policyId(policyId)
+                        .policyVersion(policyVersion)
+                        .startDate(startDate)
+                        .insuredPersons(insuredPersons.size())
+                        .storedAt(Instant.now())
+                        .build())
+                .thenReturn(insuredPersons);
+    }
+
+    private Mono<PolicyHead> allocateNextPolicyVersion(String policyId, long newPersonsCount) {
+        return headRepository.allocateNextVersion(policyId, newPersonsCount)
+                .switchIfEmpty(Mono.defer(() -> initializePolicyHeadFromExistingData(policyId)
+                        .then(headRepository.allocateNextVersion(policyId, newPersonsCount))));
+    }
+
+    private Mono<Void> initializePolicyHeadFromExistingData(String policyId) {
+        return findExistingPolicyHead(policyId)
+                .flatMap(policyHead -> headRepository.insert(policyHead))
+                .onErrorResume(DuplicateKeyException.class, exception -> Mono.empty())
+                .then();
+    }
+
+    private Mono<Void> synchronizePolicyHead(String policyId) {
+        return findExistingPolicyHead(policyId)
+                .flatMap(policyHead -> headRepository.synchronizeWithExistingData(policyId, policyHead.getPolicyVersion(), policyHead.getNextPersonId()));
+    }
+
+    private Mono<PolicyHead> findExistingPolicyHead(String policyId) {
+        var currentBiggestPersonId = repository.findFirstByPolicyIdOrderByPersonIdDesc(policyId)
+                .switchIfEmpty(Mono.error(NoDataException::new))
+                .map(PolicyData::getPersonId);
+        var currentPolicyVersion = repository.findFirstByPolicyIdOrderByPolicyVersionDesc(policyId)
+                .switchIfEmpty(Mono.error(NoDataException::new))
+                .map(PolicyData::getPolicyVersion);
+
+        return Mono.zip(currentPolicyVersion, currentBiggestPersonId)
+                .map(existing -> PolicyHead.builder()
+                        .policyId(policyId)
+                        .policyVersion(existing.getT1())
+                        .nextPersonId(existing.getT2() + 1)
+                        .committedVersion(existing.getT1())
+                        .build());
+    }
+
+}
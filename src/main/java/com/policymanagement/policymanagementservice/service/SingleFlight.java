@@ -0,0 +1,67 @@
+package com.policymanagement.policymanagementservice.service;
+
+import com.policymanagement.policymanagementservice.exception.PolicyReadTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+class SingleFlight<K, V> {
+
+    private final String operation;
+    private final PolicyMetrics policyMetrics;
+    private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    SingleFlight(String operation, PolicyMetrics policyMetrics) {
+        this.operation = operation;
+        this.policyMetrics = policyMetrics;
+    }
+
+    V execute(K key, Duration timeout, Supplier<V> supplier) {
+        var call = new CompletableFuture<V>();
+        var inFlight = calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            policyMetrics.recordCoalescedCall(operation, true);
+            return await(inFlight, timeout);
+        }
+
+        policyMetrics.recordCoalescedCall(operation, false);
+        Thread.startVirtualThread(() -> {
+            try {
+                call.complete(supplier.get());
+            } catch (Throwable exception) {
+                call.completeExceptionally(exception);
+            } finally {
+                calls.remove(key, call);
+            }
+        });
+        return await(call, timeout);
+    }
+
+    void forget(Predicate<K> keys) {
+        calls.keySet().removeIf(keys);
+    }
+
+    private V await(CompletableFuture<V> call, Duration timeout) {
+        try {
+            return call.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(exception.getCause());
+        } catch (TimeoutException exception) {
+            throw new PolicyReadTimeoutException();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new PolicyReadTimeoutException();
+        }
+    }
+
+}
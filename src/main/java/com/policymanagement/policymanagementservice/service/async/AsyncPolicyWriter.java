@@ -0,0 +1,248 @@
+package com.policymanagement.policymanagementservice.service.async;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.policymanagement.policymanagementservice.config.AsyncWriteConfig;
+import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.data.request.PolicyUpdateRequestData;
+import com.policymanagement.policymanagementservice.data.response.AsyncWriteResponse;
+import com.policymanagement.policymanagementservice.data.response.AsyncWriteResponse.AsyncWriteState;
+import com.policymanagement.policymanagementservice.data.response.BaseResponseData;
+import com.policymanagement.policymanagementservice.exception.ConcurrentUpdateException;
+import com.policymanagement.policymanagementservice.exception.InputValidationException;
+import com.policymanagement.policymanagementservice.exception.InvalidDateException;
+import com.policymanagement.policymanagementservice.exception.NoDataException;
+import com.policymanagement.policymanagementservice.exception.WriteQueueFullException;
+import com.policymanagement.policymanagementservice.service.PolicyDataService;
+import com.policymanagement.policymanagementservice.service.id.PolicyIdGenerator;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "policy.async-writes", name = "enabled", havingValue = "true")
+public class AsyncPolicyWriter {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    @Autowired
+    PolicyDataService service;
+
+    @Autowired
+    PolicyIdGenerator policyIdGenerator;
+
+    @Autowired
+    AsyncWriteConfig asyncWriteConfig;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private BlockingQueue<PolicyWriteRequest> queue;
+    private final Map<String, AsyncWriteResponse> pendingStatuses = new ConcurrentHashMap<>();
+    private Cache<String, AsyncWriteResponse> statuses;
+    private DistributionSummary batchSize;
+    private Thread writer;
+    private ExecutorService updateWriters;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        queue = new ArrayBlockingQueue<>(asyncWriteConfig.getQueueCapacity());
+        statuses = Caffeine.newBuilder()
+                .maximumSize(asyncWriteConfig.getMaximumStatuses())
+                .expireAfterWrite(asyncWriteConfig.getStatusRetention())
+                .build();
+        Gauge.builder("policy.async.queue.size", queue, Collection::size)
+                .baseUnit("requests")
+                .register(meterRegistry);
+        batchSize = DistributionSummary.builder("policy.async.batch.size")
+                .baseUnit("requests")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        running = true;
+        updateWriters = Executors.newFixedThreadPool(asyncWriteConfig.getUpdateWriters(),
+                Thread.ofPlatform().name("policy-async-update-writer-", 0).daemon().factory());
+        writer = Thread.ofPlatform().name("policy-async-writer").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.join(asyncWriteConfig.getShutdownTimeout().toMillis());
+        updateWriters.shutdown();
+        if (!queue.isEmpty()) {
+            log.warn("Stopped with {} accepted policy writes not stored", queue.size());
+        }
+    }
+
+    public AsyncWriteResponse submitCreate(PolicyCreateRequestData request) {
+        return submit(new PolicyWriteRequest(UUID.randomUUID().toString(), policyIdGenerator.nextId(), request, null));
+    }
+
+    public AsyncWriteResponse submitUpdate(PolicyUpdateRequestData request) {
+        return submit(new PolicyWriteRequest(UUID.randomUUID().toString(), request.getPolicyId(), null, request));
+    }
+
+    public Optional<AsyncWriteResponse> getStatus(String requestId) {
+        var pending = pendingStatuses.get(requestId);
+        return Optional.ofNullable(pending != null ? pending : statuses.getIfPresent(requestId));
+    }
+
+    private AsyncWriteResponse submit(PolicyWriteRequest request) {
+        var accepted = AsyncWriteResponse.builder()
+                .requestId(request.requestId())
+                .policyId(request.policyId())
+                .state(AsyncWriteState.ACCEPTED)
+                .build();
+        pendingStatuses.put(request.requestId(), accepted);
+        if (!running || !queue.offer(request)) {
+            pendingStatuses.remove(request.requestId());
+            throw new WriteQueueFullException();
+        }
+        return accepted;
+    }
+
+    private void run() {
+        var batch = new ArrayList<PolicyWriteRequest>(asyncWriteConfig.getMaxBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                running = false;
+                log.warn("Interrupted with {} accepted policy writes not stored", queue.size() + batch.size());
+                return;
+            }
+            if (!batch.isEmpty()) {
+                batchSize.record(batch.size());
+                process(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collectBatch(List<PolicyWriteRequest> batch) throws InterruptedException {
+        var first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        var maxBatchSize = asyncWriteConfig.getMaxBatchSize();
+        var deadline = System.nanoTime() + asyncWriteConfig.getMaxBatchDelay().toNanos();
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            var remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    void process(List<PolicyWriteRequest> batch) {
+        var creates = new ArrayList<PolicyWriteRequest>();
+        var updatesByPolicy = new LinkedHashMap<String, List<PolicyWriteRequest>>();
+        for (var request : batch) {
+            if (request.create() != null) {
+                creates.add(request);
+            } else {
+                updatesByPolicy.computeIfAbsent(request.policyId(), policyId -> new ArrayList<>()).add(request);
+            }
+        }
+        writeCreates(creates);
+
+        var updates = updatesByPolicy.values().stream()
+                .map(policyUpdates -> CompletableFuture.runAsync(() -> policyUpdates.forEach(this::writeUpdate), updateWriters))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(updates).join();
+    }
+
+    private void writeCreates(List<PolicyWriteRequest> creates) {
+        if (creates.isEmpty()) {
+            return;
+        }
+        try {
+            var results = service.createNewPolicies(
+                    creates.stream().map(PolicyWriteRequest::create).toList(),
+                    creates.stream().map(PolicyWriteRequest::policyId).toList());
+            for (var i = 0; i < results.size(); i++) {
+                var result = results.get(i);
+                complete(creates.get(i), result.getStatus(), result.getPolicy(), result.getMessage());
+            }
+        } catch (RuntimeException exception) {
+            log.warn("Asynchronous create of {} policies failed, storing them one by one", creates.size(), exception);
+            creates.forEach(this::writeCreate);
+        }
+        creates.clear();
+    }
+
+    private void writeCreate(PolicyWriteRequest request) {
+        try {
+            var result = service.createNewPolicies(List.of(request.create()), List.of(request.policyId())).get(0);
+            complete(request, result.getStatus(), result.getPolicy(), result.getMessage());
+        } catch (InputValidationException | InvalidDateException exception) {
+            complete(request, HttpStatus.BAD_REQUEST.value(), null, exception.getMessage());
+        } catch (RuntimeException exception) {
+            log.error("Asynchronous create of policy {} failed", request.policyId(), exception);
+            complete(request, HttpStatus.INTERNAL_SERVER_ERROR.value(), null, PolicyDataService.POLICY_NOT_STORED_MESSAGE);
+        }
+    }
+
+    private void writeUpdate(PolicyWriteRequest request) {
+        try {
+            complete(request, HttpStatus.CREATED.value(), service.addPolicyUpdate(request.update()), null);
+        } catch (NoDataException | InputValidationException | InvalidDateException exception) {
+            complete(request, HttpStatus.BAD_REQUEST.value(), null, exception.getMessage());
+        } catch (ConcurrentUpdateException exception) {
+            complete(request, HttpStatus.CONFLICT.value(), null, exception.getMessage());
+        } catch (RuntimeException exception) {
+            log.error("Asynchronous update of policy {} failed", request.policyId(), exception);
+            complete(request, HttpStatus.INTERNAL_SERVER_ERROR.value(), null, PolicyDataService.POLICY_NOT_STORED_MESSAGE);
+        }
+    }
+
+    private void complete(PolicyWriteRequest request, int status, BaseResponseData policy, String message) {
+        statuses.put(request.requestId(), AsyncWriteResponse.builder()
+                .requestId(request.requestId())
+                .policyId(request.policyId())
+                .state(HttpStatus.valueOf(status).is2xxSuccessful() ? AsyncWriteState.COMPLETED : AsyncWriteState.FAILED)
+                .status(status)
+                .policy(policy)
+                .message(message)
+                .build());
+        pendingStatuses.remove(request.requestId());
+    }
+
+    record PolicyWriteRequest(String requestId, String policyId, PolicyCreateRequestData create, PolicyUpdateRequestData update) {
+    }
+
+}
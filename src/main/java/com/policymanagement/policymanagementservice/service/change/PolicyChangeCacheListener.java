@@ -0,0 +1,21 @@
+package com.policymanagement.policymanagementservice.service.change;
+
+import com.policymanagement.policymanagementservice.data.response.PolicyChangeEvent;
+import com.policymanagement.policymanagementservice.service.PolicyTimelineCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "policy.change-stream", name = "enabled", havingValue = "true")
+public class PolicyChangeCacheListener implements PolicyChangeListener {
+
+    @Autowired
+    PolicyTimelineCache timelineCache;
+
+    @Override
+    public void onPolicyChange(PolicyChangeEvent event) {
+        timelineCache.invalidate(event.getPolicyId());
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.policymanagement.policymanagementservice.service.change;
+
+import com.policymanagement.policymanagementservice.data.response.PolicyChangeEvent;
+
+@FunctionalInterface
+public interface PolicyChangeListener {
+
+    void onPolicyChange(PolicyChangeEvent event);
+
+}
@@ -0,0 +1,170 @@
+package com.policymanagement.policymanagementservice.service.change;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.policymanagement.policymanagementservice.config.ChangeStreamConfig;
+import com.policymanagement.policymanagementservice.data.response.PolicyChangeEvent;
+import com.policymanagement.policymanagementservice.domain.ChangeStreamToken;
+import com.policymanagement.policymanagementservice.domain.PolicyChange;
+import com.policymanagement.policymanagementservice.repository.ChangeStreamTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static com.policymanagement.policymanagementservice.util.DateUtils.dateToString;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "policy.change-stream", name = "enabled", havingValue = "true")
+public class PolicyChangePublisher {
+
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    @Autowired
+    MongoTemplate mongoTemplate;
+
+    @Autowired
+    ChangeStreamTokenRepository tokenRepository;
+
+    @Autowired
+    ChangeStreamConfig changeStreamConfig;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    List<PolicyChangeListener> beanListeners = List.of();
+
+    private final List<PolicyChangeListener> listeners = new CopyOnWriteArrayList<>();
+    private Counter events;
+    private Thread watcher;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        listeners.addAll(beanListeners);
+        events = Counter.builder("policy.change.events").register(meterRegistry);
+
+        running = true;
+        watcher = Thread.ofPlatform().name("policy-change-stream").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        watcher.join(changeStreamConfig.getMaxAwaitTime().toMillis() * 2);
+    }
+
+    public void addListener(PolicyChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(PolicyChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    public int listenerCount() {
+        return listeners.size();
+    }
+
+    private void run() {
+        while (running) {
+            try (var cursor = openCursor()) {
+                watch(cursor);
+            } catch (MongoCommandException exception) {
+                if (exception.getErrorCode() == CHANGE_STREAM_HISTORY_LOST) {
+                    log.warn("The stored resume token of {} is no longer in the oplog, changes since then are skipped", changeStreamConfig.getName());
+                    tokenRepository.deleteById(changeStreamConfig.getName());
+                } else {
+                    retryLater(exception);
+                }
+            } catch (MongoException exception) {
+                retryLater(exception);
+            }
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> openCursor() {
+        var pipeline = List.of(
+                Aggregates.match(Filters.eq("operationType", "insert")),
+                Aggregates.project(Projections.include("operationType", "ns", "documentKey",
+                        "fullDocument.policy_id", "fullDocument.policy_version", "fullDocument.start_date", "fullDocument.insured_persons")));
+        var changeStream = mongoTemplate.getCollection(mongoTemplate.getCollectionName(PolicyChange.class))
+                .watch(pipeline)
+                .maxAwaitTime(changeStreamConfig.getMaxAwaitTime().toMillis(), TimeUnit.MILLISECONDS);
+
+        var storedToken = tokenRepository.findById(changeStreamConfig.getName());
+        if (storedToken.isPresent()) {
+            changeStream.resumeAfter(BsonDocument.parse(storedToken.get().getToken()));
+        }
+        return changeStream.cursor();
+    }
+
+    private void watch(MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor) {
+        var lastSavedToken = Instant.now();
+
+        while (running) {
+            var change = cursor.tryNext();
+            if (change != null) {
+                publish(mongoTemplate.getConverter().read(PolicyChange.class, change.getFullDocument()));
+            }
+
+            var resumeToken = cursor.getResumeToken();
+            if (resumeToken != null && Instant.now().isAfter(lastSavedToken.plus(changeStreamConfig.getResumeTokenSaveInterval()))) {
+                tokenRepository.save(ChangeStreamToken.builder()
+                        .name(changeStreamConfig.getName())
+                        .token(resumeToken.toJson())
+                        .updatedAt(Instant.now())
+                        .build());
+                lastSavedToken = Instant.now();
+            }
+        }
+    }
+
+    private void publish(PolicyChange change) {
+        var event = PolicyChangeEvent.builder()
+                .policyId(change.getPolicyId())
+                .policyVersion(change.getPolicyVersion())
+                .startDate(dateToString(change.getStartDate()))
+                .insuredPersons(change.getInsuredPersons())
+                .build();
+        events.increment();
+
+        for (var listener : listeners) {
+            try {
+                listener.onPolicyChange(event);
+            } catch (RuntimeException exception) {
+                log.warn("Policy change listener failed for policy {}", event.getPolicyId(), exception);
+            }
+        }
+    }
+
+    private void retryLater(MongoException exception) {
+        log.warn("Policy change stream failed, reopening in {}", changeStreamConfig.getRetryDelay(), exception);
+        try {
+            Thread.sleep(changeStreamConfig.getRetryDelay().toMillis());
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+}
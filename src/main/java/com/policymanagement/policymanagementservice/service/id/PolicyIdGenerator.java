@@ -0,0 +1,22 @@
+package com.policymanagement.policymanagementservice.service.id;
+
+public interface PolicyIdGenerator {
+
+    int ID_LENGTH = 9;
+    long ID_SPACE = 101_559_956_668_416L;
+
+    String nextId();
+
+    static String toBase36(long value) {
+        if (value < 0 || value >= ID_SPACE) {
+            throw new IllegalArgumentException("The policy id space is exhausted: " + value);
+        }
+        var id = new char[ID_LENGTH];
+        for (var position = ID_LENGTH - 1; position >= 0; position--) {
+            id[position] = Character.toUpperCase(Character.forDigit((int) (value % 36), 36));
+            value /= 36;
+        }
+        return new String(id);
+    }
+
+}
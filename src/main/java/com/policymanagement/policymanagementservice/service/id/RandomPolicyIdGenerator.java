@@ -0,0 +1,17 @@
+package com.policymanagement.policymanagementservice.service.id;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+@ConditionalOnProperty(prefix = "policy.id", name = "generator", havingValue = "random")
+public class RandomPolicyIdGenerator implements PolicyIdGenerator {
+
+    @Override
+    public String nextId() {
+        return PolicyIdGenerator.toBase36(ThreadLocalRandom.current().nextLong(ID_SPACE));
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.policymanagement.policymanagementservice.service.id;
+
+import com.policymanagement.policymanagementservice.config.IdConfig;
+import com.policymanagement.policymanagementservice.repository.PolicyIdSequenceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@ConditionalOnProperty(prefix = "policy.id", name = "generator", havingValue = "sequence", matchIfMissing = true)
+public class SequencePolicyIdGenerator implements PolicyIdGenerator {
+
+    @Autowired
+    PolicyIdSequenceRepository sequenceRepository;
+
+    @Autowired
+    IdConfig idConfig;
+
+    private volatile Block block = new Block(new AtomicLong(), 0);
+
+    @Override
+    public String nextId() {
+        while (true) {
+            var current = block;
+            var value = current.next().getAndIncrement();
+            if (value < current.end()) {
+                return PolicyIdGenerator.toBase36(value);
+            }
+            allocateBlock(current);
+        }
+    }
+
+    private synchronized void allocateBlock(Block exhausted) {
+        if (block != exhausted) {
+            return;
+        }
+        var blockSize = idConfig.getBlockSize();
+        var end = sequenceRepository.allocateBlock(idConfig.getSequenceName(), blockSize);
+        block = new Block(new AtomicLong(end - blockSize), end);
+    }
+
+    private record Block(AtomicLong next, long end) {
+    }
+
+}
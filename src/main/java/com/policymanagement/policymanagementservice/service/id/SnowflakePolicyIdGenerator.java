@@ -0,0 +1,64 @@
+package com.policymanagement.policymanagementservice.service.id;
+
+import com.policymanagement.policymanagementservice.config.IdConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+@Component
+@ConditionalOnProperty(prefix = "policy.id", name = "generator", havingValue = "snowflake")
+public class SnowflakePolicyIdGenerator implements PolicyIdGenerator {
+
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 10;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    static final long EPOCH_SECOND = Instant.parse("2024-01-01T00:00:00Z").getEpochSecond();
+
+    private final Clock clock;
+    private final long nodeId;
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakePolicyIdGenerator(IdConfig idConfig) {
+        this(idConfig.getNodeId(), Clock.systemUTC());
+    }
+
+    SnowflakePolicyIdGenerator(long nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("The policy id node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    @Override
+    public String nextId() {
+        while (true) {
+            var current = state.get();
+            var second = Math.max(clock.instant().getEpochSecond() - EPOCH_SECOND, current >>> SEQUENCE_BITS);
+            var next = second > current >>> SEQUENCE_BITS ? second << SEQUENCE_BITS : current + 1;
+            if ((next & MAX_SEQUENCE) == 0 && next == current + 1) {
+                waitForNextSecond(second);
+                continue;
+            }
+            if (state.compareAndSet(current, next)) {
+                var sequence = next & MAX_SEQUENCE;
+                var timestamp = next >>> SEQUENCE_BITS;
+                return PolicyIdGenerator.toBase36((timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence);
+            }
+        }
+    }
+
+    private void waitForNextSecond(long second) {
+        var waitMillis = (EPOCH_SECOND + second + 1) * 1000 - clock.millis();
+        if (waitMillis > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(Math.min(waitMillis, 1000)));
+        }
+    }
+
+}
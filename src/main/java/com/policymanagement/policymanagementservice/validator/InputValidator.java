@@ -1,12 +1,16 @@
 package com.policymanagement.policymanagementservice.validator;
 
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
 import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.data.request.PolicyInfoRequestData;
 import com.policymanagement.policymanagementservice.data.request.PolicyUpdateRequestData;
 import com.policymanagement.policymanagementservice.exception.InputValidationException;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.time.chrono.ChronoLocalDate;
+import java.util.HashSet;
+import java.util.List;
 
 import static com.policymanagement.policymanagementservice.util.DateUtils.stringToDate;
 
@@ -28,6 +32,9 @@ public class InputValidator {
         if (insuredPersons == null || insuredPersons.isEmpty()) {
             throw new InputValidationException("The request insured persons list is empty");
         }
+
+        validateInsuredPersons(insuredPersons);
+        validateNewPolicyPersonIds(insuredPersons);
     }
 
     public void validateUpdatePolicyInput(PolicyUpdateRequestData requestData) {
@@ -51,6 +58,58 @@ public class InputValidator {
         if (insuredPersons == null || insuredPersons.isEmpty()) {
             throw new InputValidationException("The request insured persons list is empty");
         }
+
+        validateInsuredPersons(insuredPersons);
+    }
+
+    public void validatePremiumReportInput(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new InputValidationException("The report start date should not be after its end date");
+        }
+    }
+
+    public void validatePolicyInfoBatchInput(List<PolicyInfoRequestData> requests, int maxSize) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InputValidationException("The request policies list is empty");
+        }
+
+        if (requests.size() > maxSize) {
+            throw new InputValidationException("The request should not contain more than " + maxSize + " policies");
+        }
+    }
+
+    public void validatePageSize(Integer pageSize, int maxPageSize) {
+        if (pageSize != null && (pageSize < 1 || pageSize > maxPageSize)) {
+            throw new InputValidationException("The page size should be between 1 and " + maxPageSize);
+        }
+    }
+
+    public void validateInsuredPerson(InsuredPerson person) {
+        if (person == null || person.getPremium() == null) {
+            throw new InputValidationException("Every insured person should have a premium");
+        }
+        if (person.getPremium().signum() < 0) {
+            throw new InputValidationException("The insured person premium should not be negative");
+        }
+    }
+
+    private void validateInsuredPersons(List<InsuredPerson> insuredPersons) {
+        var personIds = new HashSet<Long>();
+        for (var person : insuredPersons) {
+            validateInsuredPerson(person);
+            if (person.getId() != null && !personIds.add(person.getId())) {
+                throw new InputValidationException("The request insured persons ids should be unique");
+            }
+        }
+    }
+
+    private void validateNewPolicyPersonIds(List<InsuredPerson> insuredPersons) {
+        var generatedIds = insuredPersons.stream().filter(person -> person.getId() == null).count();
+        for (var person : insuredPersons) {
+            if (person.getId() != null && person.getId() <= generatedIds) {
+                throw new InputValidationException("The insured person ids 1 to " + generatedIds + " are reserved for the persons without an id");
+            }
+        }
     }
 
     public void validatePolicyInfoInput(String policyId) {
@@ -0,0 +1,25 @@
+package com.policymanagement.policymanagementservice;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+
+import java.util.UUID;
+
+/**
+ * Base class of the tests that need a real MongoDB. All of them share one container that is started by the first test
+ * and removed when the JVM exits; every application context works on its own database, so the tests do not see each
+ * other's data. Subclasses keep {@code @Testcontainers(disabledWithoutDocker = true)} to be skipped without Docker.
+ */
+public abstract class MongoContainerTest {
+
+    protected static final MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:6.0");
+
+    @DynamicPropertySource
+    static void mongoContainerProperties(DynamicPropertyRegistry registry) {
+        mongoDBContainer.start();
+        var databaseName = "test_" + UUID.randomUUID().toString().replace("-", "");
+        registry.add("mongodb.connection-string-value", mongoDBContainer::getReplicaSetUrl);
+        registry.add("mongodb.database-name", () -> databaseName);
+    }
+}
@@ -0,0 +1,98 @@
+package com.policymanagement.policymanagementservice.config;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.TaggableReadPreference;
+import com.mongodb.WriteConcern;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+class MongoConfigTest {
+
+    private MongoConfig mongoConfig;
+
+    @BeforeEach
+    void setUp() {
+        mongoConfig = new MongoConfig();
+        mongoConfig.setConnectionStringValue("mongodb://localhost:27017/?maxPoolSize=10");
+        mongoConfig.setMeterRegistry(new SimpleMeterRegistry());
+        mongoConfig.setCommandTracingConfig(new CommandTracingConfig());
+    }
+
+    @Test
+    void testClientSettings_ConnectionStringOnly() {
+        var settings = mongoConfig.clientSettings();
+
+        Assertions.assertThat(settings.getConnectionPoolSettings().getMaxSize()).isEqualTo(10);
+        Assertions.assertThat(settings.getReadPreference()).isEqualTo(ReadPreference.primary());
+        Assertions.assertThat(settings.getCompressorList()).isEmpty();
+        Assertions.assertThat(settings.getConnectionPoolSettings().getConnectionPoolListeners()).hasSize(1);
+        Assertions.assertThat(settings.getCommandListeners()).hasSize(1);
+    }
+
+    @Test
+    void testClientSettings_CommandTracingDisabled() {
+        mongoConfig.getCommandTracingConfig().setEnabled(false);
+
+        Assertions.assertThat(mongoConfig.clientSettings().getCommandListeners()).isEmpty();
+    }
+
+    @Test
+    void testClientSettings_PropertiesOverrideConnectionString() {
+        mongoConfig.setConnectionPoolMinSize(5);
+        mongoConfig.setConnectionPoolMaxSize(50);
+        mongoConfig.setConnectionPoolMaxWaitTime(Duration.ofSeconds(2));
+        mongoConfig.setConnectTimeout(Duration.ofSeconds(3));
+        mongoConfig.setSocketTimeout(Duration.ofSeconds(10));
+        mongoConfig.setServerSelectionTimeout(Duration.ofSeconds(4));
+        mongoConfig.setReadPreference("secondaryPreferred");
+        mongoConfig.setWriteConcern("majority");
+        mongoConfig.setCompressors(List.of("zstd", "snappy"));
+
+        var settings = mongoConfig.clientSettings();
+
+        Assertions.assertThat(settings.getConnectionPoolSettings().getMinSize()).isEqualTo(5);
+        Assertions.assertThat(settings.getConnectionPoolSettings().getMaxSize()).isEqualTo(50);
+        Assertions.assertThat(settings.getConnectionPoolSettings().getMaxWaitTime(TimeUnit.MILLISECONDS)).isEqualTo(2000);
+        Assertions.assertThat(settings.getSocketSettings().getConnectTimeout(TimeUnit.MILLISECONDS)).isEqualTo(3000);
+        Assertions.assertThat(settings.getSocketSettings().getReadTimeout(TimeUnit.MILLISECONDS)).isEqualTo(10000);
+        Assertions.assertThat(settings.getClusterSettings().getServerSelectionTimeout(TimeUnit.MILLISECONDS)).isEqualTo(4000);
+        Assertions.assertThat(settings.getReadPreference()).isEqualTo(ReadPreference.secondaryPreferred());
+        Assertions.assertThat(settings.getWriteConcern()).isEqualTo(WriteConcern.MAJORITY);
+        Assertions.assertThat(settings.getCompressorList()).extracting("name").containsExactly("zstd", "snappy");
+    }
+
+    @Test
+    void testClientSettings_UnsupportedCompressor() {
+        mongoConfig.setCompressors(List.of("lz4"));
+
+        Assertions.assertThatThrownBy(() -> mongoConfig.clientSettings())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testPolicyInfoReadPreference_DefaultsToPrimary() {
+        Assertions.assertThat(mongoConfig.policyInfoReadPreference()).isEqualTo(ReadPreference.primary());
+
+        mongoConfig.setPolicyInfoReadPreference("primary");
+        mongoConfig.setPolicyInfoMaxStaleness(Duration.ofSeconds(90));
+
+        Assertions.assertThat(mongoConfig.policyInfoReadPreference()).isEqualTo(ReadPreference.primary());
+    }
+
+    @Test
+    void testPolicyInfoReadPreference_SecondaryWithBoundedStaleness() {
+        mongoConfig.setPolicyInfoReadPreference("secondaryPreferred");
+        mongoConfig.setPolicyInfoMaxStaleness(Duration.ofSeconds(120));
+
+        var readPreference = (TaggableReadPreference) mongoConfig.policyInfoReadPreference();
+
+        Assertions.assertThat(readPreference.getName()).isEqualTo("secondaryPreferred");
+        Assertions.assertThat(readPreference.getMaxStaleness(TimeUnit.SECONDS)).isEqualTo(120);
+    }
+}
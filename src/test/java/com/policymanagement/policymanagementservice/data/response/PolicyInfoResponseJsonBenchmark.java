@@ -0,0 +1,66 @@
+package com.policymanagement.policymanagementservice.data.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolicyInfoResponseJsonBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    int insuredPersons;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private PolicyInfoResponse response;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        var persons = LongStream.rangeClosed(1, insuredPersons)
+                .mapToObj(id -> InsuredPerson.builder()
+                        .id(id)
+                        .firstName("Jane" + id)
+                        .secondName("Johnson" + id)
+                        .premium(BigDecimal.valueOf(1290 + id, 2))
+                        .build())
+                .toList();
+        response = PolicyInfoResponse.builder()
+                .policyId("CU423DF89")
+                .requestDate("15.03.2099")
+                .insuredPersons(persons)
+                .totalPremium(persons.stream().map(InsuredPerson::getPremium).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .build();
+        json = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public PolicyInfoResponse deserialize() throws Exception {
+        return objectMapper.readValue(json, PolicyInfoResponse.class);
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.policymanagement.policymanagementservice.load;
+
+import com.policymanagement.policymanagementservice.PolicyManagementServiceApplication;
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.data.request.PolicyUpdateRequestData;
+import com.policymanagement.policymanagementservice.service.PolicyDataService;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+import static com.policymanagement.policymanagementservice.util.DateUtils.dateToString;
+
+@Slf4j
+@Tag("load")
+@Testcontainers(disabledWithoutDocker = true)
+class EndToEndLoadTest {
+
+    private static final int POLICIES = Integer.getInteger("load.policies", 100);
+    private static final int[] HISTORY_DEPTHS = Arrays.stream(System.getProperty("load.versions", "1,10,100").split(","))
+            .mapToInt(Integer::parseInt)
+            .toArray();
+    private static final int CONCURRENT_CLIENTS = Integer.getInteger("load.clients", 200);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 20));
+    private static final LocalDate FIRST_START_DATE = LocalDate.of(2099, 1, 1);
+    private static final String REQUEST_DATE = dateToString(FIRST_START_DATE.plusYears(1));
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:6.0");
+
+    private static ConfigurableApplicationContext context;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void startApplication() {
+        context = new SpringApplicationBuilder(PolicyManagementServiceApplication.class)
+                .run("--server.port=0",
+                        "--mongodb.connection-string-value=" + mongoDBContainer.getReplicaSetUrl(),
+                        "--mongodb.indexes.enabled=true",
+                        "--policy.cache.enabled=false");
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/policies";
+    }
+
+    @AfterAll
+    static void stopApplication() {
+        context.close();
+    }
+
+    private static List<InsuredPerson> insuredPersons(boolean withIds) {
+        return IntStream.rangeClosed(1, 3)
+                .mapToObj(id -> InsuredPerson.builder()
+                        .id(withIds ? (long) id : null)
+                        .firstName("Jane" + id)
+                        .secondName("Johnson" + id)
+                        .premium(BigDecimal.valueOf(1290 + id, 2))
+                        .build())
+                .toList();
+    }
+
+    private static List<String> seedPolicies(int policies, int versions) {
+        var service = context.getBean(PolicyDataService.class);
+
+        return IntStream.range(0, policies).parallel()
+                .mapToObj(policy -> {
+                    var policyId = service.createNewPolicy(PolicyCreateRequestData.builder()
+                            .startDate(dateToString(FIRST_START_DATE))
+                            .insuredPersons(insuredPersons(false))
+                            .build()).getPolicyId();
+                    for (int version = 2; version <= versions; version++) {
+                        service.addPolicyUpdate(PolicyUpdateRequestData.builder()
+                                .policyId(policyId)
+                                .effectiveDate(dateToString(FIRST_START_DATE.plusDays(version)))
+                                .insuredPersons(insuredPersons(true))
+                                .build());
+                    }
+                    return policyId;
+                })
+                .toList();
+    }
+
+    private static HttpRequest policyInfoRequest(String policyId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/policyId/" + policyId + "/requestDate/" + REQUEST_DATE)).build();
+    }
+
+    private static HttpRequest createRequest() {
+        var body = """
+                {"startDate": "%s", "insuredPersons": [
+                  {"firstName": "Jane", "secondName": "Johnson", "premium": 12.90},
+                  {"firstName": "Jack", "secondName": "Doe", "premium": 15.90}]}""".formatted(dateToString(FIRST_START_DATE));
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/create"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static HttpRequest updateRequest(String policyId) {
+        var effectiveDate = FIRST_START_DATE.plusDays(ThreadLocalRandom.current().nextInt(1, 365));
+        var body = """
+                {"policyId": "%s", "effectiveDate": "%s", "insuredPersons": [
+                  {"id": 1, "firstName": "Jane", "secondName": "Johnson", "premium": 12.90},
+                  {"firstName": "Will", "secondName": "Smith", "premium": 16.90}]}""".formatted(policyId, dateToString(effectiveDate));
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/update"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String randomPolicy(List<String> policyIds) {
+        return policyIds.get(ThreadLocalRandom.current().nextInt(policyIds.size()));
+    }
+
+    @Test
+    void policyInfoLatencyByHistoryDepth() throws Exception {
+        var loadGenerator = new LoadGenerator();
+        var results = new ArrayList<LoadResult>();
+
+        for (var versions : HISTORY_DEPTHS) {
+            var policyIds = seedPolicies(POLICIES, versions);
+            var name = "GET policy info (" + versions + " versions)";
+
+            results.add(loadGenerator.run(name, CONCURRENT_CLIENTS, DURATION, () -> policyInfoRequest(randomPolicy(policyIds))));
+        }
+
+        log.info("Policy info latency by history depth, {} policies:", POLICIES);
+        results.forEach(result -> log.info("{}", result));
+        Assertions.assertThat(results).allSatisfy(result -> Assertions.assertThat(result.errors()).isZero());
+    }
+
+    @Test
+    void mixedTraffic() throws Exception {
+        var policyIds = seedPolicies(POLICIES, HISTORY_DEPTHS[HISTORY_DEPTHS.length - 1]);
+
+        var results = new LoadGenerator().runMixed(CONCURRENT_CLIENTS, DURATION, () -> {
+            var dice = ThreadLocalRandom.current().nextInt(100);
+            if (dice < 20) {
+                return new LoadRequest("POST /create", createRequest());
+            }
+            if (dice < 50) {
+                return new LoadRequest("POST /update", updateRequest(randomPolicy(policyIds)));
+            }
+            return new LoadRequest("GET policy info", policyInfoRequest(randomPolicy(policyIds)));
+        });
+
+        results.values().forEach(result -> log.info("{}", result));
+        Assertions.assertThat(results).containsKeys("POST /create", "POST /update", "GET policy info");
+        Assertions.assertThat(results.get("POST /create").errors()).isZero();
+        Assertions.assertThat(results.get("GET policy info").errors()).isZero();
+    }
+}
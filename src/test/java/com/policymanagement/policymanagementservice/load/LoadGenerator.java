@@ -0,0 +1,71 @@
+package com.policymanagement.policymanagementservice.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public class LoadGenerator {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()))
+            .build();
+
+    public LoadResult run(String name, int concurrentClients, Duration duration, Supplier<HttpRequest> requests) throws InterruptedException {
+        return runMixed(concurrentClients, duration, () -> new LoadRequest(name, requests.get())).get(name);
+    }
+
+    public Map<String, LoadResult> runMixed(int concurrentClients, Duration duration, Supplier<LoadRequest> requests) throws InterruptedException {
+        var endpoints = new ConcurrentHashMap<String, EndpointStatistics>();
+        var finishedClients = new CountDownLatch(concurrentClients);
+        var start = System.nanoTime();
+        var deadline = start + duration.toNanos();
+
+        for (int client = 0; client < concurrentClients; client++) {
+            sendNext(requests, deadline, endpoints, finishedClients);
+        }
+        finishedClients.await();
+
+        var elapsedNanos = System.nanoTime() - start;
+        var results = new TreeMap<String, LoadResult>();
+        endpoints.forEach((endpoint, statistics) -> results.put(endpoint,
+                LoadResult.of(endpoint, concurrentClients, statistics.latencies, statistics.errors.get(), elapsedNanos)));
+        return results;
+    }
+
+    private void sendNext(Supplier<LoadRequest> requests, long deadline, Map<String, EndpointStatistics> endpoints,
+                          CountDownLatch finishedClients) {
+        if (System.nanoTime() >= deadline) {
+            finishedClients.countDown();
+            return;
+        }
+
+        var loadRequest = requests.get();
+        var statistics = endpoints.computeIfAbsent(loadRequest.endpoint(), endpoint -> new EndpointStatistics());
+        var requestStart = System.nanoTime();
+        httpClient.sendAsync(loadRequest.request(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    if (error != null || response.statusCode() >= 400) {
+                        statistics.errors.incrementAndGet();
+                    } else {
+                        statistics.latencies.add(System.nanoTime() - requestStart);
+                    }
+                    sendNext(requests, deadline, endpoints, finishedClients);
+                });
+    }
+
+    private static class EndpointStatistics {
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong errors = new AtomicLong();
+    }
+
+}
@@ -0,0 +1,6 @@
+package com.policymanagement.policymanagementservice.load;
+
+import java.net.http.HttpRequest;
+
+public record LoadRequest(String endpoint, HttpRequest request) {
+}
@@ -0,0 +1,29 @@
+package com.policymanagement.policymanagementservice.load;
+
+import java.util.Collection;
+
+public record LoadResult(String name, int concurrentClients, long requests, long errors, double throughput,
+                         double p50Millis, double p99Millis) {
+
+    static LoadResult of(String name, int concurrentClients, Collection<Long> latencies, long errors, long elapsedNanos) {
+        var sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        var throughput = sorted.length / (elapsedNanos / 1_000_000_000.0);
+
+        return new LoadResult(name, concurrentClients, sorted.length, errors, throughput,
+                percentile(sorted, 0.50), percentile(sorted, 0.99));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        var index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-40s clients=%-5d requests=%-8d errors=%-6d throughput=%.1f req/s p50=%.2f ms p99=%.2f ms",
+                name, concurrentClients, requests, errors, throughput, p50Millis, p99Millis);
+    }
+}
@@ -0,0 +1,115 @@
+package com.policymanagement.policymanagementservice.load;
+
+import com.policymanagement.policymanagementservice.PolicyManagementServiceApplication;
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.data.request.PolicyUpdateRequestData;
+import com.policymanagement.policymanagementservice.service.PolicyDataService;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static com.policymanagement.policymanagementservice.util.DateUtils.dateToString;
+
+@Slf4j
+@Tag("load")
+@Testcontainers(disabledWithoutDocker = true)
+class SnapshotReadLoadTest {
+
+    private static final int POLICIES = Integer.getInteger("load.policies", 100);
+    private static final int VERSIONS = Integer.getInteger("load.versions", 50);
+    private static final int INSURED_PERSONS = Integer.getInteger("load.insured-persons", 20);
+    private static final int CONCURRENT_CLIENTS = Integer.getInteger("load.clients", 200);
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("load.duration-seconds", 20));
+    private static final LocalDate FIRST_START_DATE = LocalDate.of(2099, 1, 1);
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:6.0");
+
+    private static ConfigurableApplicationContext startApplication(boolean snapshots) {
+        return new SpringApplicationBuilder(PolicyManagementServiceApplication.class)
+                .run("--server.port=0",
+                        "--mongodb.connection-string-value=" + mongoDBContainer.getReplicaSetUrl(),
+                        "--mongodb.indexes.enabled=true",
+                        "--policy.cache.enabled=false",
+                        "--policy.snapshots.enabled=" + snapshots);
+    }
+
+    private static List<InsuredPerson> insuredPersons(boolean withIds) {
+        return LongStream.rangeClosed(1, INSURED_PERSONS)
+                .mapToObj(id -> InsuredPerson.builder()
+                        .id(withIds ? id : null)
+                        .firstName("Jane" + id)
+                        .secondName("Johnson" + id)
+                        .premium(BigDecimal.valueOf(1290 + id, 2))
+                        .build())
+                .toList();
+    }
+
+    private static List<String> seedPolicies(ConfigurableApplicationContext context) {
+        var service = context.getBean(PolicyDataService.class);
+
+        return IntStream.range(0, POLICIES).parallel()
+                .mapToObj(policy -> {
+                    var policyId = service.createNewPolicy(PolicyCreateRequestData.builder()
+                            .startDate(dateToString(FIRST_START_DATE))
+                            .insuredPersons(insuredPersons(false))
+                            .build()).getPolicyId();
+                    for (int version = 2; version <= VERSIONS; version++) {
+                        service.addPolicyUpdate(PolicyUpdateRequestData.builder()
+                                .policyId(policyId)
+                                .effectiveDate(dateToString(FIRST_START_DATE.plusDays(version)))
+                                .insuredPersons(insuredPersons(true))
+                                .build());
+                    }
+                    return policyId;
+                })
+                .toList();
+    }
+
+    private static LoadResult runPolicyInfoLoad(ConfigurableApplicationContext context, List<String> policyIds, String name) throws InterruptedException {
+        var baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/policies";
+        var requestDate = dateToString(FIRST_START_DATE.plusYears(1));
+
+        return new LoadGenerator().run(name, CONCURRENT_CLIENTS, DURATION, () -> HttpRequest.newBuilder(URI.create(
+                baseUrl + "/policyId/" + policyIds.get(ThreadLocalRandom.current().nextInt(policyIds.size())) + "/requestDate/" + requestDate)).build());
+    }
+
+    @Test
+    void compareSnapshotAndRowReadPaths() throws Exception {
+        List<String> policyIds;
+        LoadResult snapshotResult;
+        try (var context = startApplication(true)) {
+            policyIds = seedPolicies(context);
+            snapshotResult = runPolicyInfoLoad(context, policyIds, "GET policy info from snapshots");
+        }
+
+        LoadResult rowResult;
+        try (var context = startApplication(false)) {
+            rowResult = runPolicyInfoLoad(context, policyIds, "GET policy info from rows");
+        }
+
+        log.info("{} policies, {} versions, {} insured persons, 2 queries per request; 1 snapshot vs {} rows read:",
+                POLICIES, VERSIONS, INSURED_PERSONS, INSURED_PERSONS);
+        log.info("{}", snapshotResult);
+        log.info("{}", rowResult);
+        Assertions.assertThat(snapshotResult.errors()).isZero();
+        Assertions.assertThat(rowResult.errors()).isZero();
+    }
+}
@@ -0,0 +1,85 @@
+package com.policymanagement.policymanagementservice.load;
+
+import com.policymanagement.policymanagementservice.PolicyManagementServiceApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Tag("load")
+@Testcontainers(disabledWithoutDocker = true)
+class VirtualThreadLoadTest {
+
+    private static final int CONCURRENT_CLIENTS = 1000;
+    private static final Duration DURATION = Duration.ofSeconds(30);
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:6.0");
+
+    private static ConfigurableApplicationContext startApplication(boolean virtualThreads) {
+        return new SpringApplicationBuilder(PolicyManagementServiceApplication.class)
+                .run("--server.port=0",
+                        "--server.tomcat.threads.max=200",
+                        "--server.tomcat.max-connections=" + 2 * CONCURRENT_CLIENTS,
+                        "--mongodb.connection-string-value=" + mongoDBContainer.getReplicaSetUrl(),
+                        "--mongodb.connection-pool-max-size=100",
+                        "--mongodb.connection-pool-max-wait-time=5s",
+                        "--mongodb.indexes.enabled=true",
+                        "--policy.cache.enabled=false",
+                        "--policy.virtual-threads.enabled=" + virtualThreads);
+    }
+
+    private static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/policies";
+    }
+
+    private static String createPolicy(String baseUrl) throws Exception {
+        var body = """
+                {"startDate": "01.01.2099", "insuredPersons": [
+                  {"firstName": "Jane", "secondName": "Johnson", "premium": 12.90},
+                  {"firstName": "Jack", "secondName": "Doe", "premium": 15.90}]}""";
+        var request = HttpRequest.newBuilder(URI.create(baseUrl + "/create"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        var response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+
+        var matcher = Pattern.compile("\"policyId\":\"(\\w+)\"").matcher(response.body());
+        Assertions.assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+
+    private static LoadResult runPolicyInfoLoad(boolean virtualThreads, String name) throws Exception {
+        try (var context = startApplication(virtualThreads)) {
+            var baseUrl = baseUrl(context);
+            var policyId = createPolicy(baseUrl);
+            var request = HttpRequest.newBuilder(URI.create(baseUrl + "/policyId/" + policyId + "/requestDate/02.01.2099")).build();
+
+            return new LoadGenerator().run(name, CONCURRENT_CLIENTS, DURATION, () -> request);
+        }
+    }
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        var platform = runPolicyInfoLoad(false, "platform threads GET policy info");
+        var virtual = runPolicyInfoLoad(true, "virtual threads GET policy info");
+        log.info("{}", platform);
+        log.info("{}", virtual);
+
+        Assertions.assertThat(platform.errors()).isZero();
+        Assertions.assertThat(virtual.errors()).isZero();
+    }
+}
@@ -0,0 +1,44 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import org.assertj.core.api.Assertions;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.junit.jupiter.api.Test;
+
+class CommandTracingListenerTest {
+
+    @Test
+    void testShapeOf_ReplacesValuesAndKeepsOperators() {
+        var filter = BsonDocument.parse("{ policy_id: 'CU423DF89', start_date: { $lt: { $date: '2099-01-01T00:00:00Z' } }, policy_version: { $in: [1, 2] } }");
+
+        var shape = CommandTracingListener.shapeOf(filter);
+
+        Assertions.assertThat(shape).isEqualTo(BsonDocument.parse("{ policy_id: '?', start_date: { $lt: '?' }, policy_version: { $in: ['?', '?'] } }"));
+    }
+
+    @Test
+    void testDocumentsReturned_CursorBatches() {
+        var firstBatch = BsonDocument.parse("{ cursor: { id: 0, ns: 'db.policy_data', firstBatch: [{ a: 1 }, { a: 2 }] }, ok: 1 }");
+        var nextBatch = BsonDocument.parse("{ cursor: { id: 0, ns: 'db.policy_data', nextBatch: [{ a: 1 }] }, ok: 1 }");
+
+        Assertions.assertThat(CommandTracingListener.documentsReturned(firstBatch)).isEqualTo(2);
+        Assertions.assertThat(CommandTracingListener.documentsReturned(nextBatch)).isEqualTo(1);
+    }
+
+    @Test
+    void testDocumentsReturned_WriteAndFindAndModifyResponses() {
+        Assertions.assertThat(CommandTracingListener.documentsReturned(BsonDocument.parse("{ n: 3, ok: 1 }"))).isEqualTo(3);
+        Assertions.assertThat(CommandTracingListener.documentsReturned(BsonDocument.parse("{ value: { _id: 'CU423DF89' }, ok: 1 }"))).isEqualTo(1);
+        Assertions.assertThat(CommandTracingListener.documentsReturned(BsonDocument.parse("{ value: null, ok: 1 }"))).isZero();
+        Assertions.assertThat(CommandTracingListener.documentsReturned(BsonDocument.parse("{ ok: 1 }"))).isZero();
+    }
+
+    @Test
+    void testResponseBytes_ReadFromTheRawResponse() {
+        var response = BsonDocument.parse("{ n: 3, ok: 1 }");
+        var rawResponse = RawBsonDocument.parse(response.toJson());
+
+        Assertions.assertThat(CommandTracingListener.responseBytes(rawResponse)).isEqualTo(rawResponse.getByteBuffer().remaining()).isPositive();
+        Assertions.assertThat(CommandTracingListener.responseBytes(response)).isEqualTo(-1);
+    }
+}
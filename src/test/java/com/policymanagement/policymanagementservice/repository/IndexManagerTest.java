@@ -0,0 +1,149 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.mongodb.client.model.IndexOptions;
+import com.policymanagement.policymanagementservice.MongoContainerTest;
+import com.policymanagement.policymanagementservice.domain.PolicyData;
+import org.assertj.core.api.Assertions;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class IndexManagerTest extends MongoContainerTest {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private PolicyDataRepository repository;
+
+    @Autowired
+    private IndexManager indexManager;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("mongodb.indexes.enabled", () -> "true");
+        registry.add("mongodb.indexes.strict", () -> "true");
+    }
+
+    @BeforeEach
+    public void setUp() {
+        repository.deleteAll();
+
+        var entities = new ArrayList<PolicyData>();
+        for (long version = 1; version <= 50; version++) {
+            for (long person = 1; person <= 3; person++) {
+                entities.add(PolicyData.builder()
+                        .policyId("CU423DF89")
+                        .policyVersion(version)
+                        .personId(person)
+                        .firstName("Jane")
+                        .lastName("Johnson")
+                        .premium(BigDecimal.valueOf(12.90))
+                        .startDate(LocalDate.of(2022, 4, 3).plusDays(version))
+                        .build());
+            }
+        }
+        repository.saveAll(entities);
+    }
+
+    @Test
+    void testIndexes_requiredIndexesAreCreatedOnStartup() {
+        var indexNames = mongoTemplate.indexOps(PolicyData.class).getIndexInfo().stream().map(IndexInfo::getName).toList();
+
+        Assertions.assertThat(indexNames).contains("policy_version_start_date", "policy_person", "start_date");
+    }
+
+    @Test
+    void testIndexes_indexWithOtherKeysIsReported() {
+        var collection = mongoTemplate.getCollection("policy_data");
+        collection.dropIndex("policy_person");
+        collection.createIndex(new Document("policy_id", 1), new IndexOptions().name("policy_person"));
+        try {
+            Assertions.assertThatThrownBy(indexManager::checkIndexes)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("policy_data.policy_person");
+        } finally {
+            collection.dropIndex("policy_person");
+            indexManager.checkIndexes();
+        }
+    }
+
+    @Test
+    void testIndexes_indexWithOtherOptionsIsReported() {
+        var collection = mongoTemplate.getCollection("policy_data");
+        collection.dropIndex("policy_version_person");
+        collection.createIndex(new Document("policy_id", 1).append("policy_version", 1).append("person_id", 1),
+                new IndexOptions().name("policy_version_person"));
+        try {
+            Assertions.assertThatThrownBy(indexManager::checkIndexes)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("policy_data.policy_version_person");
+        } finally {
+            collection.dropIndex("policy_version_person");
+            indexManager.checkIndexes();
+        }
+    }
+
+    @Test
+    void testIndexes_effectiveVersionLookupUsesIndexScan() {
+        var filter = new Document("policy_id", "CU423DF89").append("start_date", new Document("$lt", new Date()));
+        var explain = mongoTemplate.getCollection("policy_data")
+                .find(filter)
+                .sort(new Document("policy_version", -1))
+                .limit(1)
+                .explain();
+
+        assertIndexScan(explain);
+    }
+
+    @Test
+    void testIndexes_versionRowsLookupUsesIndexScan() {
+        var filter = new Document("policy_id", "CU423DF89").append("policy_version", 7L);
+        var explain = mongoTemplate.getCollection("policy_data").find(filter).explain();
+
+        assertIndexScan(explain);
+    }
+
+    @Test
+    void testIndexes_personIdLookupUsesIndexScan() {
+        var filter = new Document("policy_id", "CU423DF89");
+        var explain = mongoTemplate.getCollection("policy_data")
+                .find(filter)
+                .projection(new Document("person_id", 1).append("_id", 0))
+                .sort(new Document("person_id", -1))
+                .explain();
+
+        assertIndexScan(explain);
+    }
+
+    @Test
+    void testIndexes_monthlyPremiumsLookupUsesIndexScan() {
+        var from = Date.from(LocalDate.of(2022, 5, 1).atStartOfDay(ZoneOffset.UTC).toInstant());
+        var to = Date.from(LocalDate.of(2022, 6, 1).atStartOfDay(ZoneOffset.UTC).toInstant());
+        var filter = new Document("start_date", new Document("$gte", from).append("$lt", to));
+        var explain = mongoTemplate.getCollection("policy_data").find(filter).explain();
+
+        assertIndexScan(explain);
+    }
+
+    private void assertIndexScan(Document explain) {
+        var winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+
+        Assertions.assertThat(winningPlan).contains("IXSCAN").doesNotContain("COLLSCAN");
+    }
+}
@@ -0,0 +1,63 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.policymanagement.policymanagementservice.MongoContainerTest;
+import com.policymanagement.policymanagementservice.domain.PolicyData;
+import com.policymanagement.policymanagementservice.domain.PolicyHead;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class PolicyHeadMigrationTest extends MongoContainerTest {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private PolicyDataRepository repository;
+
+    @Autowired
+    private PolicyHeadRepository headRepository;
+
+    private static PolicyData row(String policyId, long version, long person) {
+        return PolicyData.builder()
+                .policyId(policyId).policyVersion(version).personId(person).firstName("Jane").lastName("Johnson")
+                .premium(new BigDecimal("12.90")).startDate(LocalDate.of(2099, 1, 1))
+                .build();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        repository.deleteAll();
+        headRepository.deleteAll();
+        repository.insert(List.of(
+                row("CU423DF89", 1, 1), row("CU423DF89", 1, 2), row("CU423DF89", 2, 1), row("CU423DF89", 2, 3),
+                row("ZKAHHGD3W", 1, 1)));
+        headRepository.insert(PolicyHead.builder().policyId("ZKAHHGD3W").policyVersion(4L).nextPersonId(9L).committedVersion(4L).build());
+    }
+
+    @Test
+    void testMigrate_createsMissingHeadsAndKeepsExistingOnes() {
+        var migration = new PolicyHeadMigration();
+        migration.mongoTemplate = mongoTemplate;
+
+        migration.migrate();
+        migration.migrate();
+
+        var legacyHead = headRepository.findById("CU423DF89").orElseThrow();
+        Assertions.assertThat(legacyHead.getPolicyVersion()).isEqualTo(2L);
+        Assertions.assertThat(legacyHead.getCommittedVersion()).isEqualTo(2L);
+        Assertions.assertThat(legacyHead.getNextPersonId()).isEqualTo(4L);
+        Assertions.assertThat(headRepository.findById("ZKAHHGD3W").orElseThrow().getPolicyVersion()).isEqualTo(4L);
+        Assertions.assertThat(headRepository.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,104 @@
+package com.policymanagement.policymanagementservice.repository;
+
+import com.policymanagement.policymanagementservice.MongoContainerTest;
+import com.policymanagement.policymanagementservice.domain.PolicyData;
+import org.assertj.core.api.Assertions;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class PremiumMigrationTest extends MongoContainerTest {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private PolicyDataRepository repository;
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static Document legacyRow(long version, long person, String premium, LocalDate startDate) {
+        return new Document("policy_id", "CU423DF89")
+                .append("policy_version", version)
+                .append("person_id", person)
+                .append("first_name", "Jane")
+                .append("last_name", "Johnson")
+                .append("premium", premium)
+                .append("start_date", toDate(startDate))
+                .append("_class", "policy-person");
+    }
+
+    @BeforeEach
+    public void setUp() {
+        repository.deleteAll();
+        mongoTemplate.getCollection("policy_data").insertMany(List.of(
+                legacyRow(1, 1, "12.90", LocalDate.of(2099, 1, 1)),
+                legacyRow(1, 2, "15.90", LocalDate.of(2099, 1, 1)),
+                legacyRow(2, 1, "16.00", LocalDate.of(2099, 2, 1))));
+    }
+
+    @Test
+    void testWrite_premiumStoredAsDecimal128() {
+        repository.deleteAll();
+        repository.save(PolicyData.builder()
+                .policyId("CU423DF89").policyVersion(1L).personId(1L).firstName("Jane").lastName("Johnson")
+                .premium(new BigDecimal("12.90")).startDate(LocalDate.of(2099, 1, 1))
+                .build());
+
+        var stored = mongoTemplate.getCollection("policy_data").find().first();
+
+        Assertions.assertThat(stored.get("premium")).isEqualTo(Decimal128.parse("12.90"));
+        Assertions.assertThat(repository.findAll().get(0).getPremium()).isEqualByComparingTo("12.90");
+    }
+
+    @Test
+    void testMigrate_convertsStringPremiums() {
+        var migration = new PremiumMigration();
+        migration.mongoTemplate = mongoTemplate;
+
+        migration.migrate();
+
+        Assertions.assertThat(mongoTemplate.getCollection("policy_data").countDocuments(new Document("premium", new Document("$type", "string")))).isZero();
+        Assertions.assertThat(mongoTemplate.getCollection("policy_data").countDocuments(new Document("premium", new Document("$type", "decimal")))).isEqualTo(3);
+        Assertions.assertThat(repository.findByPolicyIdAndPolicyVersion("CU423DF89", 1L))
+                .extracting(PolicyData::getPremium)
+                .usingComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .containsExactlyInAnyOrder(new BigDecimal("12.90"), new BigDecimal("15.90"));
+    }
+
+    @Test
+    void testAggregations_sumStringAndDecimalPremiums() {
+        repository.save(PolicyData.builder()
+                .policyId("CU423DF89").policyVersion(2L).personId(2L).firstName("Jack").lastName("Doe")
+                .premium(new BigDecimal("20.00")).startDate(LocalDate.of(2099, 2, 1))
+                .build());
+
+        var versions = repository.findPremiumsByPolicyId("CU423DF89");
+        var periods = repository.findMonthlyPremiums(LocalDate.of(2099, 1, 1), LocalDate.of(2100, 1, 1), ZoneId.systemDefault().getId());
+
+        Assertions.assertThat(versions).hasSize(2);
+        Assertions.assertThat(versions.get(0).getTotalPremium()).isEqualByComparingTo("28.80");
+        Assertions.assertThat(versions.get(0).getInsuredPersons()).isEqualTo(2L);
+        Assertions.assertThat(versions.get(1).getTotalPremium()).isEqualByComparingTo("36.00");
+        Assertions.assertThat(periods).hasSize(2);
+        Assertions.assertThat(periods.get(0).getPeriod()).isEqualTo("2099-01");
+        Assertions.assertThat(periods.get(0).getPolicyVersions()).isEqualTo(1L);
+        Assertions.assertThat(periods.get(1).getPeriod()).isEqualTo("2099-02");
+        Assertions.assertThat(periods.get(1).getTotalPremium()).isEqualByComparingTo("36.00");
+    }
+}
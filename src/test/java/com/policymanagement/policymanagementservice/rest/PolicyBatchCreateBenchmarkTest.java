@@ -0,0 +1,80 @@
+package com.policymanagement.policymanagementservice.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.policymanagement.policymanagementservice.MongoContainerTest;
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.repository.PolicyDataRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers(disabledWithoutDocker = true)
+class PolicyBatchCreateBenchmarkTest extends MongoContainerTest {
+
+    private static final int POLICIES = 20_000;
+    private static final int PERSONS_PER_POLICY = 3;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private PolicyDataRepository repository;
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("mongodb.indexes.enabled", () -> "true");
+    }
+
+    @Test
+    void testCreatePolicies_batchThroughput() throws Exception {
+        var requestBody = new StringBuilder();
+        for (int policy = 0; policy < POLICIES; policy++) {
+            var persons = new ArrayList<InsuredPerson>();
+            for (int person = 0; person < PERSONS_PER_POLICY; person++) {
+                persons.add(InsuredPerson.builder().firstName("Jane").secondName("Johnson").premium(BigDecimal.valueOf(12.90)).build());
+            }
+            requestBody.append(objectMapper.writeValueAsString(PolicyCreateRequestData.builder()
+                    .startDate("01.01.2099")
+                    .insuredPersons(persons)
+                    .build())).append('\n');
+        }
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_NDJSON);
+
+        var start = System.nanoTime();
+        var response = restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/create/batch").toString(),
+                new HttpEntity<>(requestBody.toString(), headers), String.class);
+        var elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        log.info("Batch create of {} policies: {} policies/sec", POLICIES, String.format("%.1f", POLICIES / elapsedSeconds));
+
+        List<String> lines = Objects.requireNonNull(response.getBody()).lines().toList();
+        Assertions.assertThat(lines).hasSize(POLICIES).allMatch(line -> line.contains("\"status\":201"));
+        Assertions.assertThat(repository.count()).isEqualTo((long) POLICIES * PERSONS_PER_POLICY);
+    }
+}
@@ -0,0 +1,158 @@
+package com.policymanagement.policymanagementservice.rest;
+
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.data.request.PolicyUpdateRequestData;
+import com.policymanagement.policymanagementservice.data.response.AsyncWriteResponse;
+import com.policymanagement.policymanagementservice.data.response.AsyncWriteResponse.AsyncWriteState;
+import com.policymanagement.policymanagementservice.exception.NoDataException;
+import com.policymanagement.policymanagementservice.exception.WriteQueueFullException;
+import com.policymanagement.policymanagementservice.repository.PolicyDataRepository;
+import com.policymanagement.policymanagementservice.repository.PolicyHeadRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"policy.async-writes.enabled=true", "policy.async-writes.queue-capacity=1"})
+class PolicyDataControllerTestAsyncRequests {
+
+    @MockBean
+    PolicyDataRepository repository;
+    @MockBean
+    PolicyHeadRepository headRepository;
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private static PolicyCreateRequestData createRequest() {
+        return PolicyCreateRequestData.builder()
+                .startDate("01.01.2099")
+                .insuredPersons(List.of(
+                        InsuredPerson.builder().firstName("Jane").secondName("Johnson").premium(BigDecimal.valueOf(12.90)).build(),
+                        InsuredPerson.builder().firstName("Jack").secondName("Doe").premium(BigDecimal.valueOf(15.90)).build()))
+                .build();
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+
+    private AsyncWriteResponse awaitProcessed(String statusUrl) throws InterruptedException {
+        for (var attempt = 0; attempt < 100; attempt++) {
+            var status = restTemplate.getForObject(url(statusUrl), AsyncWriteResponse.class);
+            if (status.getState() != AsyncWriteState.ACCEPTED) {
+                return status;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("The request was not processed: " + statusUrl);
+    }
+
+    @Test
+    void testCreatePolicy_acceptedAndCompletedByWriter() throws Exception {
+        ResponseEntity<AsyncWriteResponse> response = restTemplate.postForEntity(url("/policies/async/create"), createRequest(), AsyncWriteResponse.class);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        Assertions.assertThat(response.getBody().getState()).isEqualTo(AsyncWriteState.ACCEPTED);
+        Assertions.assertThat(response.getBody().getPolicyId()).matches("[0-9A-Z]{9}");
+        Assertions.assertThat(response.getHeaders().getLocation()).hasToString(response.getBody().getStatusUrl());
+
+        var status = awaitProcessed(response.getBody().getStatusUrl());
+
+        Assertions.assertThat(status.getState()).isEqualTo(AsyncWriteState.COMPLETED);
+        Assertions.assertThat(status.getStatus()).isEqualTo(201);
+        Assertions.assertThat(status.getPolicy().getPolicyId()).isEqualTo(response.getBody().getPolicyId());
+        Assertions.assertThat(status.getPolicy().getTotalPremium()).isEqualByComparingTo("28.80");
+    }
+
+    @Test
+    void testCreatePolicy_invalidRequestRejectedBeforeQueueing() {
+        var request = createRequest();
+        request.setStartDate("01.01.2021");
+
+        ResponseEntity<Map> response = restTemplate.postForEntity(url("/policies/async/create"), request, Map.class);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void testCreatePolicy_missingPremiumRejectedBeforeQueueing() {
+        var request = createRequest();
+        request.getInsuredPersons().get(1).setPremium(null);
+
+        ResponseEntity<Map> response = restTemplate.postForEntity(url("/policies/async/create"), request, Map.class);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        Assertions.assertThat(response.getBody().get("message")).isEqualTo("Every insured person should have a premium");
+        Mockito.verify(headRepository, Mockito.never()).insertUnordered(Mockito.any());
+    }
+
+    @Test
+    void testUpdatePolicy_unknownPolicyReportedAsFailed() throws Exception {
+        var request = PolicyUpdateRequestData.builder()
+                .policyId("UNKNOWN00")
+                .effectiveDate("01.01.2099")
+                .insuredPersons(List.of(InsuredPerson.builder().firstName("Jane").secondName("Johnson").premium(BigDecimal.valueOf(12.90)).build()))
+                .build();
+
+        ResponseEntity<AsyncWriteResponse> response = restTemplate.postForEntity(url("/policies/async/update"), request, AsyncWriteResponse.class);
+        var status = awaitProcessed(response.getBody().getStatusUrl());
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        Assertions.assertThat(status.getState()).isEqualTo(AsyncWriteState.FAILED);
+        Assertions.assertThat(status.getStatus()).isEqualTo(400);
+        Assertions.assertThat(status.getMessage()).isEqualTo(NoDataException.MESSAGE);
+    }
+
+    @Test
+    void testCreatePolicy_fullQueueRejectedWithRetryAfter() throws Exception {
+        var writing = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Mockito.when(headRepository.insertUnordered(Mockito.any())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return Set.of();
+        });
+
+        try {
+            var first = restTemplate.postForEntity(url("/policies/async/create"), createRequest(), AsyncWriteResponse.class);
+            Assertions.assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+            var queued = restTemplate.postForEntity(url("/policies/async/create"), createRequest(), AsyncWriteResponse.class);
+            ResponseEntity<Map> rejected = restTemplate.postForEntity(url("/policies/async/create"), createRequest(), Map.class);
+
+            Assertions.assertThat(first.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+            Assertions.assertThat(queued.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+            Assertions.assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            Assertions.assertThat(rejected.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+            Assertions.assertThat(rejected.getBody().get("message")).isEqualTo(WriteQueueFullException.MESSAGE);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void testRequestStatus_unknownRequest() {
+        ResponseEntity<Map> response = restTemplate.getForEntity(url("/policies/async/requests/unknown"), Map.class);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        Assertions.assertThat(response.getBody().get("message")).isEqualTo(NoDataException.MESSAGE);
+    }
+
+}
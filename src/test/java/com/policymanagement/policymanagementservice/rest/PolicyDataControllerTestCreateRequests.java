@@ -7,7 +7,9 @@ import com.policymanagement.policymanagementservice.data.InsuredPerson;
 import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
 import com.policymanagement.policymanagementservice.data.response.PolicyCreateResponse;
 import com.policymanagement.policymanagementservice.domain.PolicyData;
+import com.policymanagement.policymanagementservice.domain.PolicyHead;
 import com.policymanagement.policymanagementservice.repository.PolicyDataRepository;
+import com.policymanagement.policymanagementservice.repository.PolicyHeadRepository;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,7 +20,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import java.io.IOException;
@@ -28,8 +34,12 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import static java.nio.file.Files.readAllBytes;
 
@@ -38,6 +48,8 @@ class PolicyDataControllerTestCreateRequests {
 
     @MockBean
     PolicyDataRepository repository;
+    @MockBean
+    PolicyHeadRepository headRepository;
     @Autowired
     private ObjectMapper objectMapper;
     @LocalServerPort
@@ -113,7 +125,7 @@ class PolicyDataControllerTestCreateRequests {
         restTemplate.postForEntity(
                 new URL("http://localhost:" + port + "/policies/create").toString(), requestBody, PolicyCreateResponse.class);
 
-        Mockito.verify(repository).saveAll(argumentCaptor.capture());
+        Mockito.verify(repository).insert(argumentCaptor.capture());
         List<PolicyData> capturedArgument = (List<PolicyData>) argumentCaptor.getValue();
 
         for (PolicyData databaseObject : capturedArgument) {
@@ -132,7 +144,7 @@ class PolicyDataControllerTestCreateRequests {
         restTemplate.postForEntity(
                 new URL("http://localhost:" + port + "/policies/create").toString(), requestBody, PolicyCreateResponse.class);
 
-        Mockito.verify(repository).saveAll(argumentCaptor.capture());
+        Mockito.verify(repository).insert(argumentCaptor.capture());
         List<PolicyData> capturedArgument = (List<PolicyData>) argumentCaptor.getValue();
 
         Assertions.assertThat(capturedArgument).size().isEqualTo(2);
@@ -146,6 +158,182 @@ class PolicyDataControllerTestCreateRequests {
         }
     }
 
+    @Test
+    void testCreatePolicies_batchReturnsResultPerItem() throws Exception {
+        var requestBody = List.of(
+                getCreateNewPolicyRequestData("01.01.2099"),
+                getCreateNewPolicyRequestData("01.01.2021"),
+                getCreateNewPolicyRequestData("01.01.2099"));
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/create/batch").toString(),
+                new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers), String.class);
+
+        var items = Objects.requireNonNull(response.getBody()).lines().map(this::readTree).toList();
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(items).hasSize(3);
+        Assertions.assertThat(items.get(0).get("index").asInt()).isEqualTo(1);
+        Assertions.assertThat(items.get(0).get("status").asInt()).isEqualTo(400);
+        Assertions.assertThat(items.get(0).get("message").asText()).isEqualTo("The request date should be in future starting from today");
+        Assertions.assertThat(items.get(1).get("index").asInt()).isEqualTo(0);
+        Assertions.assertThat(items.get(1).get("status").asInt()).isEqualTo(201);
+        Assertions.assertThat(items.get(1).get("policy").get("totalPremium").decimalValue()).isEqualByComparingTo("28.80");
+        Assertions.assertThat(items.get(2).get("index").asInt()).isEqualTo(2);
+        Assertions.assertThat(items.get(2).get("status").asInt()).isEqualTo(201);
+        Mockito.verify(repository).insertUnordered(Mockito.argThat(entries -> entries.size() == 4));
+    }
+
+    @Test
+    void testCreatePolicies_ndjsonBatchWithStoreFailure() throws Exception {
+        Mockito.when(repository.insertUnordered(Mockito.any())).thenReturn(Set.of(1));
+        var requestBody = objectMapper.writeValueAsString(getCreateNewPolicyRequestData("01.01.2099")) + "\n"
+                + objectMapper.writeValueAsString(getCreateNewPolicyRequestData("01.01.2099")) + "\n";
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_NDJSON);
+
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/create/batch").toString(),
+                new HttpEntity<>(requestBody, headers), String.class);
+
+        var items = Objects.requireNonNull(response.getBody()).lines().map(this::readTree).toList();
+
+        Assertions.assertThat(items).hasSize(2);
+        Assertions.assertThat(items.get(0).get("status").asInt()).isEqualTo(409);
+        Assertions.assertThat(items.get(1).get("status").asInt()).isEqualTo(201);
+        Mockito.verify(repository).deleteAllById(Mockito.argThat(ids -> ((Collection<?>) ids).size() == 2));
+    }
+
+    @Test
+    void testCreatePolicy_retriesWithNewIdWhenIdIsTaken() throws Exception {
+        Mockito.when(headRepository.insert(Mockito.any(PolicyHead.class)))
+                .thenThrow(new DuplicateKeyException("duplicate policy id"))
+                .thenReturn(null);
+        ArgumentCaptor<PolicyHead> argumentCaptor = ArgumentCaptor.forClass(PolicyHead.class);
+
+        var requestBody = getCreateNewPolicyRequestData("01.01.2025");
+        ResponseEntity<PolicyCreateResponse> response = restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/create").toString(), requestBody, PolicyCreateResponse.class);
+
+        Mockito.verify(headRepository, Mockito.times(2)).insert(argumentCaptor.capture());
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Assertions.assertThat(argumentCaptor.getAllValues()).extracting(PolicyHead::getPolicyId).doesNotHaveDuplicates();
+        Assertions.assertThat(response.getBody().getPolicyId()).isEqualTo(argumentCaptor.getAllValues().get(1).getPolicyId());
+    }
+
+    @Test
+    void testCreatePolicies_batchSkipsPoliciesWhoseIdStaysTaken() throws Exception {
+        Mockito.when(headRepository.insertUnordered(Mockito.any())).thenReturn(Set.of(0));
+        var requestBody = List.of(
+                getCreateNewPolicyRequestData("01.01.2099"),
+                getCreateNewPolicyRequestData("01.01.2099"));
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/create/batch").toString(),
+                new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers), String.class);
+
+        var items = Objects.requireNonNull(response.getBody()).lines().map(this::readTree).toList();
+
+        Assertions.assertThat(items).hasSize(2);
+        Assertions.assertThat(items.get(0).get("status").asInt()).isEqualTo(409);
+        Assertions.assertThat(items.get(1).get("status").asInt()).isEqualTo(201);
+        Mockito.verify(headRepository, Mockito.times(5)).insertUnordered(Mockito.any());
+        Mockito.verify(repository).insertUnordered(Mockito.argThat(entries -> entries.size() == 2));
+    }
+
+    @Test
+    void testCreatePolicies_batchRetriesTakenIdsWithNewIds() throws Exception {
+        Mockito.when(headRepository.insertUnordered(Mockito.any()))
+                .thenReturn(Set.of(1))
+                .thenReturn(Set.of());
+        var requestBody = List.of(
+                getCreateNewPolicyRequestData("01.01.2099"),
+                getCreateNewPolicyRequestData("01.01.2099"));
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/create/batch").toString(),
+                new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers), String.class);
+
+        var items = Objects.requireNonNull(response.getBody()).lines().map(this::readTree).toList();
+
+        Assertions.assertThat(items).hasSize(2);
+        Assertions.assertThat(items).extracting(item -> item.get("status").asInt()).containsExactly(201, 201);
+        Assertions.assertThat(items).extracting(item -> item.get("policy").get("policyId").asText()).doesNotHaveDuplicates();
+        Mockito.verify(headRepository).insertUnordered(Mockito.argThat(heads -> heads.size() == 1));
+        Mockito.verify(repository).insertUnordered(Mockito.argThat(entries -> entries.size() == 2));
+    }
+
+    @Test
+    void testCreatePolicy_retriesWithNewIdWhenRowsOfIdExist() throws Exception {
+        Mockito.when(repository.insert(Mockito.<PolicyData>anyIterable()))
+                .thenThrow(new DuplicateKeyException("duplicate policy version"))
+                .thenReturn(createMockEntities());
+        ArgumentCaptor<PolicyHead> argumentCaptor = ArgumentCaptor.forClass(PolicyHead.class);
+
+        var requestBody = getCreateNewPolicyRequestData("01.01.2025");
+        ResponseEntity<PolicyCreateResponse> response = restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/create").toString(), requestBody, PolicyCreateResponse.class);
+
+        Mockito.verify(headRepository, Mockito.times(2)).insert(argumentCaptor.capture());
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Assertions.assertThat(argumentCaptor.getAllValues()).extracting(PolicyHead::getPolicyId).doesNotHaveDuplicates();
+        Mockito.verify(headRepository).deleteById(argumentCaptor.getAllValues().get(0).getPolicyId());
+    }
+
+    @Test
+    void testCreatePolicy_personIdReservedForNewPersonRejected() throws Exception {
+        var requestBody = getCreateNewPolicyRequestData("01.01.2099");
+        requestBody.getInsuredPersons().get(0).setId(2L);
+        var persons = new ArrayList<>(requestBody.getInsuredPersons());
+        persons.add(InsuredPerson.builder().firstName("Will").secondName("Smith").premium(BigDecimal.valueOf(16.90)).build());
+        requestBody.setInsuredPersons(persons);
+
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/create").toString(), requestBody, String.class);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        Assertions.assertThat(readTree(response.getBody()).get("message").asText())
+                .isEqualTo("The insured person ids 1 to 2 are reserved for the persons without an id");
+        Mockito.verify(headRepository, Mockito.never()).insert(Mockito.any(PolicyHead.class));
+        Mockito.verify(repository, Mockito.never()).insert(Mockito.<PolicyData>anyIterable());
+    }
+
+    @Test
+    void testCreatePolicies_batchRejectsReservedPersonIdsWithBadRequest() throws Exception {
+        var invalidRequest = getCreateNewPolicyRequestData("01.01.2099");
+        invalidRequest.getInsuredPersons().get(0).setId(1L);
+        var requestBody = List.of(getCreateNewPolicyRequestData("01.01.2099"), invalidRequest);
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/create/batch").toString(),
+                new HttpEntity<>(objectMapper.writeValueAsString(requestBody), headers), String.class);
+
+        var items = Objects.requireNonNull(response.getBody()).lines().map(this::readTree).toList();
+
+        Assertions.assertThat(items).hasSize(2);
+        Assertions.assertThat(items.get(0).get("index").asInt()).isEqualTo(1);
+        Assertions.assertThat(items.get(0).get("status").asInt()).isEqualTo(400);
+        Assertions.assertThat(items.get(1).get("index").asInt()).isEqualTo(0);
+        Assertions.assertThat(items.get(1).get("status").asInt()).isEqualTo(201);
+        Mockito.verify(repository).insertUnordered(Mockito.argThat(entries -> entries.size() == 2));
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
     private void replaceRandomGeneratePolicyIdWithCustomValues(JsonNode expectedResponse, JsonNode actualResponse, String key, String value) {
         ((ObjectNode) expectedResponse).put(key, value);
         ((ObjectNode) actualResponse).put(key, value);
@@ -164,8 +352,9 @@ class PolicyDataControllerTestCreateRequests {
     private void setUpGetPolicyInfoMocks() {
         List<PolicyData> entities = createMockEntities();
 
-        Mockito.when(repository.saveAll(Mockito.any())).thenReturn(entities);
-        Mockito.when(repository.findByPolicyIdAndLatestStartDate(Mockito.any(), Mockito.any())).thenReturn(entities);
+        Mockito.when(repository.insert(Mockito.<PolicyData>anyIterable())).thenReturn(entities);
+        Mockito.when(repository.findPolicyInfoVersion(Mockito.any(), Mockito.any())).thenReturn(Optional.of(entities.get(0).getPolicyVersion()));
+        Mockito.when(repository.findPolicyInfoEntries(Mockito.any(), Mockito.any())).thenReturn(entities);
     }
 
     private PolicyCreateRequestData getCreateNewPolicyRequestData(String date) {
@@ -3,9 +3,15 @@ package com.policymanagement.policymanagementservice.rest;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.policymanagement.policymanagementservice.data.request.PolicyInfoRequestData;
 import com.policymanagement.policymanagementservice.data.response.PolicyInfoResponse;
 import com.policymanagement.policymanagementservice.domain.PolicyData;
+import com.policymanagement.policymanagementservice.domain.PolicyVersionPremium;
+import com.policymanagement.policymanagementservice.domain.PolicyVersionStart;
+import com.policymanagement.policymanagementservice.exception.NoDataException;
+import com.policymanagement.policymanagementservice.domain.PremiumPeriod;
 import com.policymanagement.policymanagementservice.repository.PolicyDataRepository;
+import com.policymanagement.policymanagementservice.repository.PolicyHeadRepository;
 import com.policymanagement.policymanagementservice.util.DateUtils;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -15,6 +21,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -25,9 +34,11 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import static java.nio.file.Files.readAllBytes;
 
@@ -37,6 +48,8 @@ public class PolicyDataControllerTestInfoRequests {
 
     @MockBean
     PolicyDataRepository repository;
+    @MockBean
+    PolicyHeadRepository headRepository;
     @Autowired
     private ObjectMapper objectMapper;
     @LocalServerPort
@@ -60,6 +73,57 @@ public class PolicyDataControllerTestInfoRequests {
         Assertions.assertThat(expectedResponse).isEqualTo(actualResponse);
     }
 
+    @Test
+    public void testGetPolicyInfo_metricsPublishedOnPrometheusEndpoint() throws Exception {
+        setUpGetPolicyInfoMocks();
+
+        restTemplate.getForEntity(
+                new URL("http://localhost:" + port + "/policies/policyId/CU423DF89/requestDate/03.10.2023").toString(), PolicyInfoResponse.class);
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                new URL("http://localhost:" + port + "/actuator/prometheus").toString(), String.class);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(response.getBody())
+                .contains("policy_service_seconds_count{operation=\"info\"")
+                .contains("policy_info_documents_read_documents_count")
+                .contains("policy_insured_persons_persons_count{operation=\"info\"")
+                .contains("http_server_requests_seconds_bucket");
+    }
+
+    @Test
+    public void testGetPolicyInfo_notModifiedWhenETagMatches() throws Exception {
+        setUpGetPolicyInfoMocks();
+        var url = new URL("http://localhost:" + port + "/policies/policyId/CU423DF89/requestDate/03.10.2023").toString();
+
+        ResponseEntity<String> first = restTemplate.getForEntity(url, String.class);
+        var headers = new HttpHeaders();
+        headers.setIfNoneMatch(first.getHeaders().getETag());
+        ResponseEntity<String> second = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        Assertions.assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(first.getHeaders().getETag()).isEqualTo("\"CU423DF89-1-03.10.2023\"");
+        Assertions.assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        Assertions.assertThat(second.getBody()).isNull();
+        Mockito.verify(repository, Mockito.times(2)).findPolicyInfoVersion("CU423DF89", LocalDate.of(2023, 10, 3));
+        Mockito.verify(repository, Mockito.times(1)).findPolicyInfoEntries(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testGetPolicyInfo_newVersionChangesETag() throws Exception {
+        setUpGetPolicyInfoMocks();
+        var url = new URL("http://localhost:" + port + "/policies/policyId/CU423DF89/requestDate/03.10.2023").toString();
+
+        ResponseEntity<String> first = restTemplate.getForEntity(url, String.class);
+        Mockito.when(repository.findPolicyInfoVersion(Mockito.any(), Mockito.any())).thenReturn(Optional.of(2L));
+        var headers = new HttpHeaders();
+        headers.setIfNoneMatch(first.getHeaders().getETag());
+        ResponseEntity<String> second = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        Assertions.assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(second.getHeaders().getETag()).isEqualTo("\"CU423DF89-2-03.10.2023\"");
+    }
+
     @Test
     public void testGetPolicyInfo_invalidDateAndErrorResponse() throws Exception {
         setUpGetPolicyInfoMocks();
@@ -97,7 +161,7 @@ public class PolicyDataControllerTestInfoRequests {
 
     @Test
     public void testGetPolicyInfo_NoDataAvailableForCurrentDate() throws Exception {
-        Mockito.when(repository.findByPolicyIdAndLatestStartDate(Mockito.any(), Mockito.any())).thenReturn(Collections.emptyList());
+        Mockito.when(repository.findPolicyInfoVersion(Mockito.any(), Mockito.any())).thenReturn(Optional.empty());
 
         String responseFromFile = getStringDataFromFile("testResponses/error/response_body_no_data_available.json");
         var todayDate = DateUtils.dateToString(LocalDate.now());
@@ -115,6 +179,193 @@ public class PolicyDataControllerTestInfoRequests {
         Assertions.assertThat(expectedResponse).isEqualTo(actualResponse);
     }
 
+    @Test
+    public void testExportPolicyHistory_rowsGroupedIntoVersions() throws Exception {
+        var rows = List.of(
+                PolicyData.builder().policyId("CU423DF89").policyVersion(1L).personId(1L).firstName("Jane").lastName("Johnson")
+                        .premium(BigDecimal.valueOf(12.90)).startDate(LocalDate.of(2022, 4, 3)).build(),
+                PolicyData.builder().policyId("CU423DF89").policyVersion(1L).personId(2L).firstName("Jack").lastName("Doe")
+                        .premium(BigDecimal.valueOf(15.90)).startDate(LocalDate.of(2022, 4, 3)).build(),
+                PolicyData.builder().policyId("CU423DF89").policyVersion(2L).personId(1L).firstName("Jane").lastName("Johnson")
+                        .premium(BigDecimal.valueOf(16)).startDate(LocalDate.of(2023, 1, 1)).build());
+        Mockito.when(repository.findFirstByPolicyIdOrderByPolicyVersionDesc("CU423DF89")).thenReturn(Optional.of(rows.get(2)));
+        Mockito.when(repository.streamHistory("CU423DF89")).thenReturn(rows.stream());
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                new URL("http://localhost:" + port + "/policies/policyId/CU423DF89/history").toString(), String.class);
+
+        var versions = Objects.requireNonNull(response.getBody()).lines().toList();
+        var firstVersion = objectMapper.readTree(versions.get(0));
+        var secondVersion = objectMapper.readTree(versions.get(1));
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(versions).hasSize(2);
+        Assertions.assertThat(firstVersion.get("policyVersion").asLong()).isEqualTo(1L);
+        Assertions.assertThat(firstVersion.get("startDate").asText()).isEqualTo("03.04.2022");
+        Assertions.assertThat(firstVersion.get("insuredPersons")).hasSize(2);
+        Assertions.assertThat(firstVersion.get("totalPremium").decimalValue()).isEqualByComparingTo("28.80");
+        Assertions.assertThat(secondVersion.get("policyVersion").asLong()).isEqualTo(2L);
+        Assertions.assertThat(secondVersion.get("insuredPersons")).hasSize(1);
+        Assertions.assertThat(secondVersion.get("totalPremium").decimalValue()).isEqualByComparingTo("16");
+    }
+
+    @Test
+    public void testExportPolicyHistory_unknownPolicyReturnsError() throws Exception {
+        Mockito.when(repository.findFirstByPolicyIdOrderByPolicyVersionDesc(Mockito.any())).thenReturn(Optional.empty());
+
+        ResponseEntity<Object> response = restTemplate.getForEntity(
+                new URL("http://localhost:" + port + "/policies/policyId/CU423DF89/history").toString(), Object.class);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    public void testGetPolicyInfos_batchResolvedWithTwoQueries() throws Exception {
+        Mockito.when(repository.findPolicyInfoVersions(Map.of(
+                "CU423DF89", Set.of(LocalDate.of(2023, 10, 3), LocalDate.of(2022, 6, 1)),
+                "AB123CD45", Set.of(LocalDate.of(2023, 10, 3))))).thenReturn(List.of(
+                new PolicyVersionStart("CU423DF89", 1L, LocalDate.of(2022, 4, 3)),
+                new PolicyVersionStart("CU423DF89", 2L, LocalDate.of(2023, 1, 1))));
+        Mockito.when(repository.findPolicyInfoEntries(Map.of("CU423DF89", Set.of(1L, 2L)))).thenReturn(List.of(
+                PolicyData.builder().policyId("CU423DF89").policyVersion(1L).personId(1L).firstName("Jane").lastName("Johnson")
+                        .premium(BigDecimal.valueOf(12.90)).startDate(LocalDate.of(2022, 4, 3)).build(),
+                PolicyData.builder().policyId("CU423DF89").policyVersion(1L).personId(2L).firstName("Jack").lastName("Doe")
+                        .premium(BigDecimal.valueOf(15.90)).startDate(LocalDate.of(2022, 4, 3)).build(),
+                PolicyData.builder().policyId("CU423DF89").policyVersion(2L).personId(1L).firstName("Jane").lastName("Johnson")
+                        .premium(BigDecimal.valueOf(16)).startDate(LocalDate.of(2023, 1, 1)).build()));
+        var requestBody = List.of(
+                new PolicyInfoRequestData("CU423DF89", "03.10.2023"),
+                new PolicyInfoRequestData("CU423DF89", "01.06.2022"),
+                new PolicyInfoRequestData("AB123CD45", "03.10.2023"),
+                new PolicyInfoRequestData("CU423DF89", "111.222.333"));
+
+        ResponseEntity<String> response = restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/info/batch").toString(), requestBody, String.class);
+
+        var items = objectMapper.readTree(response.getBody());
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(items).hasSize(4);
+        Assertions.assertThat(items.get(0).get("status").asInt()).isEqualTo(200);
+        Assertions.assertThat(items.get(0).get("policy").get("insuredPersons")).hasSize(1);
+        Assertions.assertThat(items.get(0).get("policy").get("totalPremium").decimalValue()).isEqualByComparingTo("16");
+        Assertions.assertThat(items.get(1).get("status").asInt()).isEqualTo(200);
+        Assertions.assertThat(items.get(1).get("policy").get("requestDate").asText()).isEqualTo("01.06.2022");
+        Assertions.assertThat(items.get(1).get("policy").get("totalPremium").decimalValue()).isEqualByComparingTo("28.80");
+        Assertions.assertThat(items.get(2).get("status").asInt()).isEqualTo(400);
+        Assertions.assertThat(items.get(2).get("message").asText()).isEqualTo(NoDataException.MESSAGE);
+        Assertions.assertThat(items.get(3).get("index").asInt()).isEqualTo(3);
+        Assertions.assertThat(items.get(3).get("status").asInt()).isEqualTo(400);
+        Mockito.verify(repository, Mockito.never()).findPolicyInfoVersion(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testGetPolicyInfos_emptyBatchReturnsError() throws Exception {
+        ResponseEntity<Object> response = restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/info/batch").toString(), List.of(), Object.class);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    public void testGetPolicyPersons_pagesByPersonIdWithCursor() throws Exception {
+        Mockito.when(repository.findPolicyInfoVersion("CU423DF89", LocalDate.of(2023, 10, 3))).thenReturn(Optional.of(2L));
+        Mockito.when(repository.findPremiumOfVersion("CU423DF89", 2L))
+                .thenReturn(List.of(new PolicyVersionPremium(2L, LocalDate.of(2022, 4, 3), 3L, new BigDecimal("44.70"))));
+        Mockito.when(repository.findPolicyPersonsPage("CU423DF89", 2L, 0L, 3)).thenReturn(List.of(person(1L), person(2L), person(3L)));
+        Mockito.when(repository.findPolicyPersonsPage("CU423DF89", 2L, 2L, 3)).thenReturn(List.of(person(3L)));
+        var url = "http://localhost:" + port + "/policies/policyId/CU423DF89/requestDate/03.10.2023/persons?limit=2";
+
+        var first = objectMapper.readTree(restTemplate.getForEntity(new URL(url).toString(), String.class).getBody());
+        var second = objectMapper.readTree(restTemplate.getForEntity(
+                new URL(url + "&cursor=" + first.get("nextCursor").asText()).toString(), String.class).getBody());
+
+        Assertions.assertThat(first.get("insuredPersons")).hasSize(2);
+        Assertions.assertThat(first.get("insuredPersons").get(1).get("id").asLong()).isEqualTo(2L);
+        Assertions.assertThat(first.get("policyVersion").asLong()).isEqualTo(2L);
+        Assertions.assertThat(first.get("personCount").asLong()).isEqualTo(3L);
+        Assertions.assertThat(first.get("totalPremium").decimalValue()).isEqualByComparingTo("44.70");
+        Assertions.assertThat(second.get("insuredPersons")).hasSize(1);
+        Assertions.assertThat(second.get("insuredPersons").get(0).get("id").asLong()).isEqualTo(3L);
+        Assertions.assertThat(second.has("nextCursor")).isFalse();
+        Assertions.assertThat(second.has("totalPremium")).isFalse();
+        Mockito.verify(repository, Mockito.times(1)).findPolicyInfoVersion(Mockito.any(), Mockito.any());
+        Mockito.verify(repository, Mockito.times(1)).findPremiumOfVersion(Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void testGetPolicyPersons_invalidCursorReturnsError() throws Exception {
+        ResponseEntity<Object> response = restTemplate.getForEntity(
+                new URL("http://localhost:" + port + "/policies/policyId/CU423DF89/persons?cursor=not-a-cursor").toString(), Object.class);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        Mockito.verify(repository, Mockito.never()).findPolicyPersonsPage(Mockito.any(), Mockito.any(), Mockito.anyLong(), Mockito.anyInt());
+    }
+
+    @Test
+    public void testGetPolicyPersons_pageSizeOutOfRangeReturnsError() throws Exception {
+        ResponseEntity<Object> response = restTemplate.getForEntity(
+                new URL("http://localhost:" + port + "/policies/policyId/CU423DF89/persons?limit=0").toString(), Object.class);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    public void testGetPolicyPremiums_totalPerVersion() throws Exception {
+        Mockito.when(repository.findPremiumsByPolicyId("CU423DF89")).thenReturn(List.of(
+                new PolicyVersionPremium(1L, LocalDate.of(2022, 4, 3), 2L, new BigDecimal("28.80")),
+                new PolicyVersionPremium(2L, LocalDate.of(2023, 1, 1), 1L, new BigDecimal("16"))));
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                new URL("http://localhost:" + port + "/policies/policyId/CU423DF89/premiums").toString(), String.class);
+
+        var body = objectMapper.readTree(response.getBody());
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(body.get("policyId").asText()).isEqualTo("CU423DF89");
+        Assertions.assertThat(body.get("versions")).hasSize(2);
+        Assertions.assertThat(body.get("versions").get(0).get("startDate").asText()).isEqualTo("03.04.2022");
+        Assertions.assertThat(body.get("versions").get(0).get("insuredPersons").asLong()).isEqualTo(2L);
+        Assertions.assertThat(body.get("versions").get(0).get("totalPremium").decimalValue()).isEqualByComparingTo("28.80");
+        Assertions.assertThat(body.get("versions").get(1).get("policyVersion").asLong()).isEqualTo(2L);
+    }
+
+    @Test
+    public void testGetPolicyPremiums_unknownPolicyReturnsError() throws Exception {
+        Mockito.when(repository.findPremiumsByPolicyId(Mockito.any())).thenReturn(List.of());
+
+        ResponseEntity<Object> response = restTemplate.getForEntity(
+                new URL("http://localhost:" + port + "/policies/policyId/CU423DF89/premiums").toString(), Object.class);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    public void testGetPremiumReport_totalPerMonth() throws Exception {
+        Mockito.when(repository.findMonthlyPremiums(Mockito.eq(LocalDate.of(2099, 1, 1)), Mockito.eq(LocalDate.of(2100, 1, 1)), Mockito.any()))
+                .thenReturn(List.of(new PremiumPeriod("2099-01", 3L, new BigDecimal("44.80"))));
+
+        ResponseEntity<String> response = restTemplate.getForEntity(
+                new URL("http://localhost:" + port + "/policies/premiums?from=01.01.2099&to=31.12.2099").toString(), String.class);
+
+        var body = objectMapper.readTree(response.getBody());
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(body.get("from").asText()).isEqualTo("01.01.2099");
+        Assertions.assertThat(body.get("periods")).hasSize(1);
+        Assertions.assertThat(body.get("periods").get(0).get("period").asText()).isEqualTo("2099-01");
+        Assertions.assertThat(body.get("periods").get(0).get("policyVersions").asLong()).isEqualTo(3L);
+        Assertions.assertThat(body.get("periods").get(0).get("totalPremium").decimalValue()).isEqualByComparingTo("44.80");
+    }
+
+    @Test
+    public void testGetPremiumReport_endBeforeStartReturnsError() throws Exception {
+        ResponseEntity<Object> response = restTemplate.getForEntity(
+                new URL("http://localhost:" + port + "/policies/premiums?from=31.12.2099&to=01.01.2099").toString(), Object.class);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     private String getStringDataFromFile(String name) throws URISyntaxException, IOException {
         Path path = Paths.get(Objects.requireNonNull(getClass().getClassLoader().getResource(name)).toURI());
         return new String(readAllBytes(path));
@@ -130,6 +381,18 @@ public class PolicyDataControllerTestInfoRequests {
         return objectMapper.readTree(fileContent);
     }
 
+    private static PolicyData person(Long personId) {
+        return PolicyData.builder()
+                .policyId("CU423DF89")
+                .policyVersion(2L)
+                .personId(personId)
+                .firstName("Jane" + personId)
+                .lastName("Johnson")
+                .premium(new BigDecimal("14.90"))
+                .startDate(LocalDate.of(2022, 4, 3))
+                .build();
+    }
+
     private void setUpGetPolicyInfoMocks() {
         var entities = List.of(
                 PolicyData.builder()
@@ -151,7 +414,8 @@ public class PolicyDataControllerTestInfoRequests {
                         .premium(BigDecimal.valueOf(15.90))
                         .build());
 
-        Mockito.when(repository.saveAll(Mockito.any())).thenReturn(entities);
-        Mockito.when(repository.findByPolicyIdAndLatestStartDate(Mockito.any(), Mockito.any())).thenReturn(entities);
+        Mockito.when(repository.insert(Mockito.<PolicyData>anyIterable())).thenReturn(entities);
+        Mockito.when(repository.findPolicyInfoVersion(Mockito.any(), Mockito.any())).thenReturn(Optional.of(entities.get(0).getPolicyVersion()));
+        Mockito.when(repository.findPolicyInfoEntries(Mockito.any(), Mockito.any())).thenReturn(entities);
     }
 }
\ No newline at end of file
@@ -0,0 +1,201 @@
+package com.policymanagement.policymanagementservice.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.policymanagement.policymanagementservice.domain.PolicyData;
+import com.policymanagement.policymanagementservice.domain.PolicyHead;
+import com.policymanagement.policymanagementservice.repository.PolicyDataRepository;
+import com.policymanagement.policymanagementservice.repository.PolicyHeadRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"policy.streaming.chunk-size=2"})
+class PolicyDataControllerTestStreamingRequests {
+
+    @MockBean
+    PolicyDataRepository repository;
+    @MockBean
+    PolicyHeadRepository headRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private final AtomicLong nextPersonId = new AtomicLong(1);
+    private final List<PolicyData> stagedEntries = new ArrayList<>();
+
+    private static final String CREATE_REQUEST = """
+            {"startDate": "01.01.2099", "insuredPersons": [
+              {"firstName": "Jane", "secondName": "Johnson", "premium": 12.90},
+              {"firstName": "Jack", "secondName": "Doe", "premium": 15.90},
+              {"firstName": "Will", "secondName": "Smith", "premium": 16.90},
+              {"firstName": "Anna", "secondName": "Brown", "premium": 10.00},
+              {"firstName": "Mark", "secondName": "Green", "premium": 11.10}]}""";
+
+    @BeforeEach
+    void setUp() {
+        Mockito.when(headRepository.reservePersonIds(Mockito.any(), Mockito.anyLong()))
+                .thenAnswer(invocation -> PolicyHead.builder()
+                        .policyId(invocation.getArgument(0))
+                        .nextPersonId(nextPersonId.addAndGet(invocation.getArgument(1)))
+                        .build());
+        Mockito.doAnswer(invocation -> stagedEntries.addAll(invocation.getArgument(0)))
+                .when(repository).insertStaged(Mockito.any());
+        Mockito.when(repository.streamByPolicyIdAndPolicyVersionOrderByPersonId(Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> stagedEntries.stream());
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+
+    private ResponseEntity<String> post(String path, String body) {
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.postForEntity(url(path), new HttpEntity<>(body, headers), String.class);
+    }
+
+    @Test
+    void testCreatePolicyStreamed_storedInChunksWithGeneratedIds() throws Exception {
+        ResponseEntity<String> response = post("/policies/create/stream", CREATE_REQUEST);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        JsonNode body = objectMapper.readTree(response.getBody());
+        Assertions.assertThat(body.get("policyId").asText()).isNotBlank();
+        Assertions.assertThat(body.get("startDate").asText()).isEqualTo("01.01.2099");
+        Assertions.assertThat(body.get("insuredPersons").findValuesAsText("id")).containsExactly("1", "2", "3", "4", "5");
+        Assertions.assertThat(body.get("totalPremium").decimalValue()).isEqualByComparingTo("66.80");
+
+        var policyId = body.get("policyId").asText();
+        ArgumentCaptor<List<PolicyData>> chunks = ArgumentCaptor.forClass(List.class);
+        var inOrder = Mockito.inOrder(repository);
+        inOrder.verify(repository, Mockito.times(3)).insertStaged(chunks.capture());
+        inOrder.verify(repository).publishStaged(policyId, 1L);
+        inOrder.verify(repository).deleteStaged(policyId, 1L);
+        Assertions.assertThat(chunks.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+        Mockito.verify(repository, Mockito.never()).insert(Mockito.<PolicyData>anyIterable());
+        Mockito.verify(headRepository).commitVersion(policyId, 1L, LocalDate.of(2099, 1, 1), new BigDecimal("66.80"));
+    }
+
+    @Test
+    void testUpdatePolicyStreamed_keepsExistingIdsAndReservesNewOnes() throws Exception {
+        nextPersonId.set(3);
+        Mockito.when(headRepository.allocateNextVersion(Mockito.eq("CU423DF89"), Mockito.eq(0L)))
+                .thenReturn(PolicyHead.builder().policyId("CU423DF89").policyVersion(2L).nextPersonId(3L).build());
+
+        ResponseEntity<String> response = post("/policies/update/stream", """
+                {"policyId": "CU423DF89", "effectiveDate": "01.02.2099", "insuredPersons": [
+                  {"id": 1, "firstName": "Jane", "secondName": "Johnson", "premium": 12.90},
+                  {"firstName": "Will", "secondName": "Smith", "premium": 16.90},
+                  {"firstName": "Anna", "secondName": "Brown", "premium": 10.00}]}""");
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        JsonNode body = objectMapper.readTree(response.getBody());
+        Assertions.assertThat(body.get("policyId").asText()).isEqualTo("CU423DF89");
+        Assertions.assertThat(body.get("effectiveDate").asText()).isEqualTo("01.02.2099");
+        Assertions.assertThat(body.get("insuredPersons").findValuesAsText("id")).containsExactly("1", "3", "4");
+        Assertions.assertThat(body.get("totalPremium").decimalValue()).isEqualByComparingTo("39.80");
+        Mockito.verify(headRepository).commitVersion("CU423DF89", 2L, LocalDate.of(2099, 2, 1), new BigDecimal("39.80"));
+    }
+
+    @Test
+    void testUpdatePolicyStreamed_versionConflictRemovesStoredRows() {
+        Mockito.when(headRepository.allocateNextVersion(Mockito.eq("CU423DF89"), Mockito.eq(0L)))
+                .thenReturn(PolicyHead.builder().policyId("CU423DF89").policyVersion(2L).nextPersonId(3L).build());
+        Mockito.doThrow(new DuplicateKeyException("E11000 duplicate key error")).when(repository).publishStaged("CU423DF89", 2L);
+
+        ResponseEntity<String> response = post("/policies/update/stream", """
+                {"policyId": "CU423DF89", "effectiveDate": "01.02.2099", "insuredPersons": [
+                  {"id": 1, "firstName": "Jane", "secondName": "Johnson", "premium": 12.90}]}""");
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        Mockito.verify(repository).unpublishStaged("CU423DF89", 2L);
+        Mockito.verify(repository).deleteStaged("CU423DF89", 2L);
+        Mockito.verify(headRepository, Mockito.never()).commitVersion(Mockito.any(), Mockito.anyLong(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void testUpdatePolicyStreamed_duplicatePersonIdsRejected() {
+        Mockito.when(headRepository.allocateNextVersion(Mockito.eq("CU423DF89"), Mockito.eq(0L)))
+                .thenReturn(PolicyHead.builder().policyId("CU423DF89").policyVersion(2L).nextPersonId(3L).build());
+        Mockito.doThrow(new DuplicateKeyException("E11000 duplicate key error")).when(repository).insertStaged(Mockito.any());
+
+        ResponseEntity<String> response = post("/policies/update/stream", """
+                {"policyId": "CU423DF89", "effectiveDate": "01.02.2099", "insuredPersons": [
+                  {"id": 1, "firstName": "Jane", "secondName": "Johnson", "premium": 12.90},
+                  {"id": 1, "firstName": "Jane", "secondName": "Johnson", "premium": 12.90}]}""");
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        Mockito.verify(repository).deleteStaged("CU423DF89", 2L);
+        Mockito.verify(repository, Mockito.never()).publishStaged(Mockito.any(), Mockito.anyLong());
+    }
+
+    @Test
+    void testCreatePolicyStreamed_personWithoutPremiumRejected() {
+        ResponseEntity<String> response = post("/policies/create/stream", """
+                {"startDate": "01.01.2099", "insuredPersons": [
+                  {"firstName": "Jane", "secondName": "Johnson", "premium": 12.90},
+                  {"firstName": "Jack", "secondName": "Doe"}]}""");
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        Mockito.verify(repository, Mockito.never()).insertStaged(Mockito.any());
+        Mockito.verify(repository, Mockito.never()).publishStaged(Mockito.any(), Mockito.anyLong());
+    }
+
+    @Test
+    void testCreatePolicyStreamed_invalidPersonAfterFirstChunkReturnsError() {
+        ResponseEntity<String> response = post("/policies/create/stream", """
+                {"startDate": "01.01.2099", "insuredPersons": [
+                  {"firstName": "Jane", "secondName": "Johnson", "premium": 12.90},
+                  {"firstName": "Jack", "secondName": "Doe", "premium": 15.90},
+                  {"firstName": "Will", "secondName": "Smith", "premium": 16.90},
+                  {"firstName": "Anna", "secondName": "Brown", "premium": -10.00}]}""");
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        Mockito.verify(repository).insertStaged(Mockito.any());
+        Mockito.verify(repository).deleteStaged(Mockito.any(), Mockito.eq(1L));
+        Mockito.verify(repository, Mockito.never()).publishStaged(Mockito.any(), Mockito.anyLong());
+    }
+
+    @Test
+    void testCreatePolicyStreamed_fieldsAfterPersonsRejected() {
+        ResponseEntity<String> response = post("/policies/create/stream", """
+                {"insuredPersons": [{"firstName": "Jane", "secondName": "Johnson", "premium": 12.90}],
+                 "startDate": "01.01.2099"}""");
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        Mockito.verify(repository, Mockito.never()).insertStaged(Mockito.any());
+    }
+
+    @Test
+    void testCreatePolicyStreamed_malformedBodyRejected() {
+        ResponseEntity<String> response = post("/policies/create/stream", "{\"startDate\": \"01.01.2099\", \"insuredPersons\": [{\"firstName\": ");
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        Mockito.verify(headRepository, Mockito.never()).insert(Mockito.any(PolicyHead.class));
+    }
+
+}
@@ -5,16 +5,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.policymanagement.policymanagementservice.data.InsuredPerson;
 import com.policymanagement.policymanagementservice.data.request.PolicyUpdateRequestData;
 import com.policymanagement.policymanagementservice.domain.PolicyData;
+import com.policymanagement.policymanagementservice.domain.PolicyHead;
 import com.policymanagement.policymanagementservice.repository.PolicyDataRepository;
+import com.policymanagement.policymanagementservice.repository.PolicyHeadRepository;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -28,6 +32,7 @@ import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import static java.nio.file.Files.readAllBytes;
 
@@ -36,6 +41,8 @@ class PolicyDataControllerTestUpdateRequests {
 
     @MockBean
     PolicyDataRepository repository;
+    @MockBean
+    PolicyHeadRepository headRepository;
     @Autowired
     private ObjectMapper objectMapper;
     @LocalServerPort
@@ -105,6 +112,104 @@ class PolicyDataControllerTestUpdateRequests {
         Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
     }
 
+    @Test
+    void testUpdatePolicy_duplicatePersonIdsReturnError() throws Exception {
+        var person = InsuredPerson.builder().id(1L).firstName("Jane").secondName("Johnson").premium(BigDecimal.valueOf(12.90)).build();
+        var requestBody = PolicyUpdateRequestData.builder()
+                .effectiveDate("01.01.2099")
+                .insuredPersons(List.of(person, person))
+                .policyId("CU423DF89")
+                .build();
+
+        ResponseEntity<Object> response = restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/update").toString(), requestBody, Object.class);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        Mockito.verify(repository, Mockito.never()).insert(Mockito.<PolicyData>anyIterable());
+        Mockito.verify(headRepository, Mockito.never()).allocateNextVersion(Mockito.any(), Mockito.anyLong());
+    }
+
+    @Test
+    void testUpdatePolicy_versionAndPersonIdsAllocatedFromPolicyHead() throws Exception {
+        Mockito.when(headRepository.allocateNextVersion(Mockito.eq("CU423DF89"), Mockito.eq(2L)))
+                .thenReturn(PolicyHead.builder().policyId("CU423DF89").policyVersion(4L).nextPersonId(7L).build());
+        ArgumentCaptor<Iterable<PolicyData>> argumentCaptor = ArgumentCaptor.forClass(List.class);
+
+        var requestBody = getCreateNewPolicyRequestData("01.01.2099", "CU423DF89");
+        restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/update").toString(), requestBody, Object.class);
+
+        Mockito.verify(repository).insert(argumentCaptor.capture());
+        List<PolicyData> capturedArgument = (List<PolicyData>) argumentCaptor.getValue();
+
+        Assertions.assertThat(capturedArgument).extracting(PolicyData::getPolicyVersion).containsOnly(4L);
+        Assertions.assertThat(capturedArgument).extracting(PolicyData::getPersonId).containsExactly(5L, 6L);
+        Mockito.verify(repository, Mockito.never()).findFirstByPolicyIdOrderByPolicyVersionDesc(Mockito.any());
+    }
+
+    @Test
+    void testUpdatePolicy_policyHeadInitializedForExistingPolicyWithoutHead() throws Exception {
+        Mockito.when(headRepository.allocateNextVersion(Mockito.eq("CU423DF89"), Mockito.eq(2L)))
+                .thenReturn(null)
+                .thenReturn(PolicyHead.builder().policyId("CU423DF89").policyVersion(2L).nextPersonId(5L).build());
+        Mockito.when(repository.findFirstByPolicyIdOrderByPersonIdDesc("CU423DF89")).thenReturn(Optional.of(createMockEntities().get(1)));
+        Mockito.when(repository.findFirstByPolicyIdOrderByPolicyVersionDesc("CU423DF89")).thenReturn(Optional.of(createMockEntities().get(1)));
+        ArgumentCaptor<PolicyHead> argumentCaptor = ArgumentCaptor.forClass(PolicyHead.class);
+
+        var requestBody = getCreateNewPolicyRequestData("01.01.2099", "CU423DF89");
+        ResponseEntity<Object> response = restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/update").toString(), requestBody, Object.class);
+
+        Mockito.verify(headRepository).insert(argumentCaptor.capture());
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Assertions.assertThat(argumentCaptor.getValue().getPolicyVersion()).isEqualTo(1L);
+        Assertions.assertThat(argumentCaptor.getValue().getNextPersonId()).isEqualTo(3L);
+    }
+
+    @Test
+    void testUpdatePolicy_versionConflictIsRetriedWithNextVersion() throws Exception {
+        Mockito.when(headRepository.allocateNextVersion(Mockito.eq("CU423DF89"), Mockito.anyLong()))
+                .thenReturn(PolicyHead.builder().policyId("CU423DF89").policyVersion(2L).nextPersonId(5L).build())
+                .thenReturn(PolicyHead.builder().policyId("CU423DF89").policyVersion(3L).nextPersonId(7L).build());
+        Mockito.when(repository.insert(Mockito.<PolicyData>anyIterable()))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"))
+                .thenReturn(createMockEntities());
+        Mockito.when(repository.findFirstByPolicyIdOrderByPersonIdDesc("CU423DF89")).thenReturn(Optional.of(createMockEntities().get(1)));
+        Mockito.when(repository.findFirstByPolicyIdOrderByPolicyVersionDesc("CU423DF89")).thenReturn(Optional.of(createMockEntities().get(1)));
+        ArgumentCaptor<Iterable<PolicyData>> argumentCaptor = ArgumentCaptor.forClass(List.class);
+
+        var requestBody = getCreateNewPolicyRequestData("01.01.2099", "CU423DF89");
+        ResponseEntity<Object> response = restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/update").toString(), requestBody, Object.class);
+
+        Mockito.verify(repository, Mockito.times(2)).insert(argumentCaptor.capture());
+        Mockito.verify(repository).deleteAllById(Mockito.any());
+        Mockito.verify(headRepository).synchronizeWithExistingData("CU423DF89", 1L, 3L);
+        Mockito.verify(headRepository, Mockito.times(2)).allocateNextVersion(Mockito.eq("CU423DF89"), Mockito.eq(2L));
+        List<PolicyData> retriedEntries = (List<PolicyData>) argumentCaptor.getAllValues().get(1);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        Assertions.assertThat(retriedEntries).extracting(PolicyData::getPolicyVersion).containsOnly(3L);
+        Assertions.assertThat(retriedEntries).extracting(PolicyData::getPersonId).containsExactly(5L, 6L);
+    }
+
+    @Test
+    void testUpdatePolicy_persistentVersionConflictReturnsError() throws Exception {
+        Mockito.when(headRepository.allocateNextVersion(Mockito.eq("CU423DF89"), Mockito.anyLong()))
+                .thenReturn(PolicyHead.builder().policyId("CU423DF89").policyVersion(2L).nextPersonId(5L).build());
+        Mockito.when(repository.insert(Mockito.<PolicyData>anyIterable())).thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+        Mockito.when(repository.findFirstByPolicyIdOrderByPersonIdDesc("CU423DF89")).thenReturn(Optional.of(createMockEntities().get(1)));
+        Mockito.when(repository.findFirstByPolicyIdOrderByPolicyVersionDesc("CU423DF89")).thenReturn(Optional.of(createMockEntities().get(1)));
+
+        var requestBody = getCreateNewPolicyRequestData("01.01.2099", "CU423DF89");
+        ResponseEntity<Object> response = restTemplate.postForEntity(
+                new URL("http://localhost:" + port + "/policies/update").toString(), requestBody, Object.class);
+
+        Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        Mockito.verify(repository, Mockito.times(5)).insert(Mockito.<PolicyData>anyIterable());
+    }
+
     private String getStringDataFromFile(String name) throws URISyntaxException, IOException {
         Path path = Paths.get(Objects.requireNonNull(getClass().getClassLoader().getResource(name)).toURI());
         return new String(readAllBytes(path));
@@ -118,8 +223,9 @@ class PolicyDataControllerTestUpdateRequests {
     private void setUpGetPolicyInfoMocks() {
         List<PolicyData> entities = createMockEntities();
 
-        Mockito.when(repository.saveAll(Mockito.any())).thenReturn(entities);
-        Mockito.when(repository.findByPolicyIdAndLatestStartDate(Mockito.any(), Mockito.any())).thenReturn(entities);
+        Mockito.when(repository.insert(Mockito.<PolicyData>anyIterable())).thenReturn(entities);
+        Mockito.when(repository.findPolicyInfoVersion(Mockito.any(), Mockito.any())).thenReturn(Optional.of(entities.get(0).getPolicyVersion()));
+        Mockito.when(repository.findPolicyInfoEntries(Mockito.any(), Mockito.any())).thenReturn(entities);
     }
 
     private PolicyUpdateRequestData getCreateNewPolicyRequestData(String date, String policyId) {
@@ -0,0 +1,97 @@
+package com.policymanagement.policymanagementservice.service;
+
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.domain.PolicyData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolicyDataServiceBenchmark {
+
+    private static final String POLICY_ID = "CU423DF89";
+    private static final LocalDate START_DATE = LocalDate.of(2099, 1, 1);
+
+    private static List<InsuredPerson> insuredPersons(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> InsuredPerson.builder()
+                        .id(id)
+                        .firstName("Jane" + id)
+                        .secondName("Johnson" + id)
+                        .premium(BigDecimal.valueOf(1290 + id, 2))
+                        .build())
+                .toList();
+    }
+
+    @State(Scope.Benchmark)
+    public static class PolicyState {
+
+        @Param({"1", "10", "100", "1000"})
+        int insuredPersons;
+
+        List<InsuredPerson> persons;
+
+        @Setup
+        public void setUp() {
+            persons = insuredPersons(insuredPersons);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class HistoryState {
+
+        @Param({"1", "10", "100"})
+        int insuredPersons;
+
+        @Param({"1", "10", "100"})
+        int versions;
+
+        List<PolicyData> rows;
+
+        @Setup
+        public void setUp() {
+            var persons = insuredPersons(insuredPersons);
+            rows = new ArrayList<>(insuredPersons * versions);
+            for (long version = 1; version <= versions; version++) {
+                rows.addAll(PolicyDataService.prepareEntriesForDb(POLICY_ID, START_DATE.plusDays(version), version, persons));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<PolicyData> prepareEntriesForDb(PolicyState state) {
+        return PolicyDataService.prepareEntriesForDb(POLICY_ID, START_DATE, 1L, state.persons);
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalPremium(PolicyState state) {
+        return PolicyDataService.calculateTotalPremium(state.persons);
+    }
+
+    @Benchmark
+    public List<InsuredPerson> mapPolicyDataToInsuredPersons(HistoryState state) {
+        return state.rows.stream()
+                .map(PolicyDataService.getPolicyDataInsuredPersonFunction())
+                .toList();
+    }
+
+}
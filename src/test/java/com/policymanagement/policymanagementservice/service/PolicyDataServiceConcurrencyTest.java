@@ -0,0 +1,96 @@
+package com.policymanagement.policymanagementservice.service;
+
+import com.policymanagement.policymanagementservice.MongoContainerTest;
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.data.request.PolicyUpdateRequestData;
+import com.policymanagement.policymanagementservice.domain.PolicyData;
+import com.policymanagement.policymanagementservice.repository.PolicyDataRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+@Slf4j
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class PolicyDataServiceConcurrencyTest extends MongoContainerTest {
+
+    private static final int THREADS = 16;
+    private static final int UPDATES_PER_THREAD = 25;
+
+    @Autowired
+    private PolicyDataService service;
+
+    @Autowired
+    private PolicyDataRepository repository;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("mongodb.indexes.enabled", () -> "true");
+    }
+
+    private static List<InsuredPerson> createInsuredPersons() {
+        return List.of(
+                InsuredPerson.builder().id(1L).firstName("Jane").secondName("Johnson").premium(BigDecimal.valueOf(12.90)).build(),
+                InsuredPerson.builder().firstName("Jack").secondName("Doe").premium(BigDecimal.valueOf(15.90)).build());
+    }
+
+    @Test
+    void testAddPolicyUpdate_concurrentUpdatesProduceUniqueVersions() throws Exception {
+        var policyId = service.createNewPolicy(PolicyCreateRequestData.builder()
+                .startDate("01.01.2099")
+                .insuredPersons(List.of(InsuredPerson.builder().firstName("Jane").secondName("Johnson").premium(BigDecimal.valueOf(12.90)).build()))
+                .build()).getPolicyId();
+
+        var tasks = new ArrayList<Callable<Void>>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            tasks.add(() -> {
+                for (int update = 0; update < UPDATES_PER_THREAD; update++) {
+                    service.addPolicyUpdate(PolicyUpdateRequestData.builder()
+                            .policyId(policyId)
+                            .effectiveDate("02.01.2099")
+                            .insuredPersons(createInsuredPersons())
+                            .build());
+                }
+                return null;
+            });
+        }
+
+        var executor = Executors.newFixedThreadPool(THREADS);
+        var start = System.nanoTime();
+        for (var future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+        var elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        executor.shutdown();
+
+        var totalUpdates = THREADS * UPDATES_PER_THREAD;
+        log.info("{} concurrent updates on one policy: {} updates/sec", totalUpdates, String.format("%.1f", totalUpdates / elapsedSeconds));
+
+        var rowsPerVersion = repository.findAll().stream()
+                .filter(row -> row.getPolicyId().equals(policyId))
+                .collect(Collectors.groupingBy(PolicyData::getPolicyVersion, Collectors.counting()));
+        var newPersonIds = repository.findAll().stream()
+                .filter(row -> row.getPolicyId().equals(policyId) && row.getPersonId() != 1L)
+                .map(PolicyData::getPersonId)
+                .toList();
+
+        Assertions.assertThat(rowsPerVersion).hasSize(totalUpdates + 1);
+        Assertions.assertThat(rowsPerVersion.keySet()).allMatch(version -> version >= 1 && version <= totalUpdates + 1);
+        Assertions.assertThat(rowsPerVersion.get(1L)).isEqualTo(1L);
+        Assertions.assertThat(rowsPerVersion.values().stream().filter(count -> count == 2L).count()).isEqualTo(totalUpdates);
+        Assertions.assertThat(newPersonIds).doesNotHaveDuplicates().hasSize(totalUpdates);
+    }
+}
@@ -0,0 +1,155 @@
+package com.policymanagement.policymanagementservice.service;
+
+import com.policymanagement.policymanagementservice.MongoContainerTest;
+import com.policymanagement.policymanagementservice.config.StorageConfig;
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.data.request.PolicyUpdateRequestData;
+import com.policymanagement.policymanagementservice.data.response.PolicyVersionResponse;
+import com.policymanagement.policymanagementservice.repository.PolicyDataRepository;
+import com.policymanagement.policymanagementservice.repository.PolicyDeltaRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class PolicyDeltaStorageTest extends MongoContainerTest {
+
+    private static final LocalDate REQUEST_DATE = LocalDate.of(2100, 1, 1);
+
+    @Autowired
+    private PolicyDataService service;
+
+    @Autowired
+    private PolicyDataRepository repository;
+
+    @Autowired
+    private PolicyDeltaRepository deltaRepository;
+
+    @Autowired
+    private StorageConfig storageConfig;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("policy.storage.mode", () -> "delta");
+        registry.add("policy.storage.checkpoint-interval", () -> "3");
+    }
+
+    @AfterEach
+    void resetMode() {
+        storageConfig.setMode(StorageConfig.DELTA_MODE);
+    }
+
+    private static InsuredPerson person(Long id, String firstName, String premium) {
+        return InsuredPerson.builder().id(id).firstName(firstName).secondName("Johnson").premium(new BigDecimal(premium)).build();
+    }
+
+    private String createPolicyWithUpdates(int persons, int updates) {
+        var policyId = service.createNewPolicy(PolicyCreateRequestData.builder()
+                .startDate("01.01.2099")
+                .insuredPersons(LongStream.rangeClosed(1, persons).mapToObj(id -> person(null, "Jane" + id, "10.00")).toList())
+                .build()).getPolicyId();
+        for (var update = 1; update <= updates; update++) {
+            var insuredPersons = new ArrayList<InsuredPerson>();
+            LongStream.rangeClosed(2, persons).forEach(id -> insuredPersons.add(person(id, "Jane" + id, "10.00")));
+            insuredPersons.set(0, person(2L, "Jane2", "1" + update + ".00"));
+            insuredPersons.add(person(null, "Jack" + update, "15.00"));
+            service.addPolicyUpdate(PolicyUpdateRequestData.builder()
+                    .policyId(policyId)
+                    .effectiveDate("0" + update + ".02.2099")
+                    .insuredPersons(insuredPersons)
+                    .build());
+        }
+        return policyId;
+    }
+
+    private List<PolicyVersionResponse> history(String policyId) {
+        var versions = new ArrayList<PolicyVersionResponse>();
+        service.exportPolicyHistory(policyId, versions::add);
+        return versions;
+    }
+
+    @Test
+    void testUpdate_writesOnlyChangedPersons() {
+        var policyId = createPolicyWithUpdates(50, 4);
+
+        Assertions.assertThat(repository.findFirstByPolicyIdOrderByPolicyVersionDesc(policyId)).isEmpty();
+        Assertions.assertThat(deltaRepository.findById(policyId + "_1")).get()
+                .satisfies(checkpoint -> Assertions.assertThat(checkpoint.getUpsertedPersons()).hasSize(50));
+        Assertions.assertThat(deltaRepository.findById(policyId + "_2")).get()
+                .satisfies(delta -> {
+                    Assertions.assertThat(delta.getCheckpointVersion()).isEqualTo(1L);
+                    Assertions.assertThat(delta.getUpsertedPersons()).hasSize(2);
+                    Assertions.assertThat(delta.getRemovedPersonIds()).containsExactly(1L);
+                });
+        Assertions.assertThat(deltaRepository.findById(policyId + "_4")).get()
+                .satisfies(checkpoint -> Assertions.assertThat(checkpoint.getCheckpointVersion()).isEqualTo(4L));
+    }
+
+    @Test
+    void testGetPolicyInfo_deltasAndRowsReturnSameResponse() {
+        storageConfig.setMode(StorageConfig.FULL_MODE);
+        var policyId = createPolicyWithUpdates(20, 4);
+        var fromRows = history(policyId);
+
+        var migration = new PolicyDeltaMigration();
+        migration.policyDataService = service;
+        migration.deltaRepository = deltaRepository;
+        migration.storageConfig = storageConfig;
+        Assertions.assertThat(migration.migrate()).isGreaterThanOrEqualTo(5);
+        storageConfig.setMode(StorageConfig.DELTA_MODE);
+
+        var fromDeltas = history(policyId);
+        Assertions.assertThat(fromDeltas).hasSameSizeAs(fromRows);
+        for (var index = 0; index < fromRows.size(); index++) {
+            Assertions.assertThat(fromDeltas.get(index).getInsuredPersons()).containsExactlyInAnyOrderElementsOf(fromRows.get(index).getInsuredPersons());
+            Assertions.assertThat(fromDeltas.get(index).getTotalPremium()).isEqualByComparingTo(fromRows.get(index).getTotalPremium());
+        }
+
+        for (var requestDate : List.of(LocalDate.of(2099, 1, 15), LocalDate.of(2099, 3, 15), REQUEST_DATE)) {
+            storageConfig.setMode(StorageConfig.FULL_MODE);
+            var expected = service.getPolicyInfo(policyId, requestDate);
+            storageConfig.setMode(StorageConfig.DELTA_MODE);
+            var actual = service.getPolicyInfo(policyId, requestDate);
+
+            Assertions.assertThat(actual.getInsuredPersons()).containsExactlyInAnyOrderElementsOf(expected.getInsuredPersons());
+            Assertions.assertThat(actual.getTotalPremium()).isEqualByComparingTo(expected.getTotalPremium());
+        }
+    }
+
+    @Test
+    void testUpdate_continuesMigratedPolicy() {
+        storageConfig.setMode(StorageConfig.FULL_MODE);
+        var policyId = createPolicyWithUpdates(5, 1);
+        var migration = new PolicyDeltaMigration();
+        migration.policyDataService = service;
+        migration.deltaRepository = deltaRepository;
+        migration.storageConfig = storageConfig;
+        migration.migrate();
+        storageConfig.setMode(StorageConfig.DELTA_MODE);
+
+        var response = service.addPolicyUpdate(PolicyUpdateRequestData.builder()
+                .policyId(policyId)
+                .effectiveDate("01.06.2099")
+                .insuredPersons(new ArrayList<>(List.of(person(2L, "Jane2", "20.00"), person(null, "Will", "16.90"))))
+                .build());
+
+        Assertions.assertThat(response.getInsuredPersons()).extracting(InsuredPerson::getId).containsExactly(2L, 7L);
+        Assertions.assertThat(service.getPolicyInfo(policyId, REQUEST_DATE).getInsuredPersons())
+                .containsExactlyInAnyOrder(person(2L, "Jane2", "20.00"), person(7L, "Will", "16.90"));
+        Assertions.assertThat(service.getPolicyPremiums(policyId).getVersions()).hasSize(3);
+    }
+
+}
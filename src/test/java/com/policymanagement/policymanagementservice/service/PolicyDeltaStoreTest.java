@@ -0,0 +1,104 @@
+package com.policymanagement.policymanagementservice.service;
+
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+class PolicyDeltaStoreTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2099, 1, 1);
+
+    private static InsuredPerson person(long id, String premium) {
+        return InsuredPerson.builder().id(id).firstName("Jane" + id).secondName("Johnson" + id).premium(new BigDecimal(premium)).build();
+    }
+
+    private static List<InsuredPerson> group(int size) {
+        return LongStream.rangeClosed(1, size).mapToObj(id -> person(id, "10.00")).toList();
+    }
+
+    private static Map<Long, InsuredPerson> state(List<InsuredPerson> persons) {
+        var state = new LinkedHashMap<Long, InsuredPerson>();
+        persons.forEach(person -> state.put(person.getId(), person));
+        return state;
+    }
+
+    @Test
+    void testBuildDelta_firstVersionIsCheckpoint() {
+        var delta = PolicyDeltaStore.buildDelta("CU423DF89", 1L, START_DATE, group(3), null, Map.of(), 16);
+
+        Assertions.assertThat(PolicyDeltaStore.isCheckpoint(delta)).isTrue();
+        Assertions.assertThat(delta.getUpsertedPersons()).hasSize(3);
+        Assertions.assertThat(delta.getMaxPersonId()).isEqualTo(3L);
+        Assertions.assertThat(delta.getTotalPremium()).isEqualByComparingTo("30.00");
+    }
+
+    @Test
+    void testBuildDelta_storesOnlyChangedPersons() {
+        var persons = group(2000);
+        var checkpoint = PolicyDeltaStore.buildDelta("CU423DF89", 1L, START_DATE, persons, null, Map.of(), 16);
+
+        var nextPersons = new ArrayList<>(persons.subList(1, persons.size()));
+        nextPersons.set(0, person(2, "12.50"));
+        nextPersons.add(person(2001, "15.00"));
+        var delta = PolicyDeltaStore.buildDelta("CU423DF89", 2L, START_DATE.plusDays(1), nextPersons, checkpoint, state(persons), 16);
+
+        Assertions.assertThat(PolicyDeltaStore.isCheckpoint(delta)).isFalse();
+        Assertions.assertThat(delta.getCheckpointVersion()).isEqualTo(1L);
+        Assertions.assertThat(delta.getUpsertedPersons()).containsExactly(person(2, "12.50"), person(2001, "15.00"));
+        Assertions.assertThat(delta.getRemovedPersonIds()).containsExactly(1L);
+        Assertions.assertThat(delta.getPersonCount()).isEqualTo(2000L);
+        Assertions.assertThat(delta.getMaxPersonId()).isEqualTo(2001L);
+
+        var reconstructed = PolicyDeltaStore.applyDelta(PolicyDeltaStore.applyDelta(new LinkedHashMap<>(), checkpoint), delta);
+        Assertions.assertThat(reconstructed.values()).containsExactlyInAnyOrderElementsOf(nextPersons);
+    }
+
+    @Test
+    void testBuildDelta_writesCheckpointAfterInterval() {
+        var persons = group(10);
+        var previous = PolicyDeltaStore.buildDelta("CU423DF89", 1L, START_DATE, persons, null, Map.of(), 4);
+        var state = state(persons);
+
+        for (var version = 2L; version <= 5L; version++) {
+            var nextPersons = new ArrayList<>(state.values());
+            nextPersons.set(0, person(1, version + ".00"));
+            var delta = PolicyDeltaStore.buildDelta("CU423DF89", version, START_DATE.plusDays(version), nextPersons, previous, state, 4);
+
+            Assertions.assertThat(PolicyDeltaStore.isCheckpoint(delta)).isEqualTo(version == 5L);
+            PolicyDeltaStore.applyDelta(state, delta);
+            previous = delta;
+        }
+    }
+
+    @Test
+    void testBuildDelta_writesCheckpointWhenPreviousVersionIsMissing() {
+        var persons = group(10);
+        var checkpoint = PolicyDeltaStore.buildDelta("CU423DF89", 1L, START_DATE, persons, null, Map.of(), 16);
+
+        var delta = PolicyDeltaStore.buildDelta("CU423DF89", 3L, START_DATE.plusDays(2), persons, checkpoint, state(persons), 16);
+
+        Assertions.assertThat(PolicyDeltaStore.isCheckpoint(delta)).isTrue();
+        Assertions.assertThat(delta.getUpsertedPersons()).hasSize(10);
+    }
+
+    @Test
+    void testBuildDelta_writesCheckpointWhenDeltaIsNotSmaller() {
+        var persons = group(2);
+        var checkpoint = PolicyDeltaStore.buildDelta("CU423DF89", 1L, START_DATE, persons, null, Map.of(), 16);
+
+        var delta = PolicyDeltaStore.buildDelta("CU423DF89", 2L, START_DATE.plusDays(1), List.of(person(3, "10.00"), person(4, "10.00")),
+                checkpoint, state(persons), 16);
+
+        Assertions.assertThat(PolicyDeltaStore.isCheckpoint(delta)).isTrue();
+        Assertions.assertThat(delta.getMaxPersonId()).isEqualTo(4L);
+    }
+
+}
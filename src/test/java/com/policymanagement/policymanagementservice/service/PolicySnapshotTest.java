@@ -0,0 +1,92 @@
+package com.policymanagement.policymanagementservice.service;
+
+import com.policymanagement.policymanagementservice.MongoContainerTest;
+import com.policymanagement.policymanagementservice.config.SnapshotConfig;
+import com.policymanagement.policymanagementservice.repository.PolicySnapshotRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.policymanagement.policymanagementservice.service.PolicyTestFixtures.createPolicyWithUpdate;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class PolicySnapshotTest extends MongoContainerTest {
+
+    @Autowired
+    private PolicyDataService service;
+
+    @Autowired
+    private PolicySnapshotRepository snapshotRepository;
+
+    @Autowired
+    private SnapshotConfig snapshotConfig;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("policy.snapshots.enabled", () -> "true");
+    }
+
+    @Test
+    void testCreateAndUpdate_writeOneSnapshotPerVersion() {
+        var policyId = createPolicyWithUpdate(service);
+
+        var latest = snapshotRepository.findById(policyId + "_2");
+
+        Assertions.assertThat(snapshotRepository.findById(policyId + "_1")).isPresent();
+        Assertions.assertThat(latest).isPresent();
+        Assertions.assertThat(latest.get().getPolicyVersion()).isEqualTo(2L);
+        Assertions.assertThat(latest.get().getInsuredPersons()).hasSize(2);
+        Assertions.assertThat(latest.get().getTotalPremium()).isEqualByComparingTo("28.80");
+    }
+
+    @Test
+    void testGetPolicyInfo_snapshotAndRowsReturnSameResponse() {
+        var policyId = createPolicyWithUpdate(service);
+
+        for (var requestDate : List.of(LocalDate.of(2099, 1, 15), LocalDate.of(2099, 3, 1))) {
+            snapshotConfig.setEnabled(true);
+            var fromSnapshot = service.getPolicyInfo(policyId, requestDate);
+            snapshotConfig.setEnabled(false);
+            var fromRows = service.getPolicyInfo(policyId, requestDate);
+            snapshotConfig.setEnabled(true);
+
+            Assertions.assertThat(fromSnapshot.getInsuredPersons()).isEqualTo(fromRows.getInsuredPersons());
+            Assertions.assertThat(fromSnapshot.getTotalPremium()).isEqualByComparingTo(fromRows.getTotalPremium());
+        }
+    }
+
+    @Test
+    void testGetPolicyInfo_missingSnapshotOfEffectiveVersionReadFromRows() {
+        var policyId = createPolicyWithUpdate(service);
+        snapshotRepository.deleteById(policyId + "_2");
+
+        var response = service.getPolicyInfo(policyId, LocalDate.of(2099, 3, 1));
+
+        Assertions.assertThat(response.getInsuredPersons()).hasSize(2);
+        Assertions.assertThat(response.getTotalPremium()).isEqualByComparingTo("28.80");
+    }
+
+    @Test
+    void testBackfill_recreatesMissingSnapshots() {
+        var policyId = createPolicyWithUpdate(service);
+        snapshotRepository.deleteAll();
+
+        var backfill = new PolicySnapshotBackfill();
+        backfill.policyDataService = service;
+        backfill.snapshotRepository = snapshotRepository;
+        backfill.snapshotConfig = snapshotConfig;
+
+        Assertions.assertThat(backfill.backfill()).isGreaterThanOrEqualTo(2);
+        Assertions.assertThat(snapshotRepository.findById(policyId + "_1")).isPresent();
+        Assertions.assertThat(snapshotRepository.findById(policyId + "_2")).get()
+                .satisfies(snapshot -> Assertions.assertThat(snapshot.getTotalPremium()).isEqualByComparingTo("28.80"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.policymanagement.policymanagementservice.service;
+
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.data.request.PolicyUpdateRequestData;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public final class PolicyTestFixtures {
+
+    private PolicyTestFixtures() {
+    }
+
+    /**
+     * Creates a policy starting 01.01.2099 with one person and updates it on 01.02.2099 to two persons.
+     */
+    public static String createPolicyWithUpdate(PolicyDataService service) {
+        var policyId = service.createNewPolicy(PolicyCreateRequestData.builder()
+                .startDate("01.01.2099")
+                .insuredPersons(List.of(InsuredPerson.builder().firstName("Jane").secondName("Johnson").premium(new BigDecimal("12.90")).build()))
+                .build()).getPolicyId();
+        service.addPolicyUpdate(PolicyUpdateRequestData.builder()
+                .policyId(policyId)
+                .effectiveDate("01.02.2099")
+                .insuredPersons(List.of(
+                        InsuredPerson.builder().id(1L).firstName("Jane").secondName("Johnson").premium(new BigDecimal("12.90")).build(),
+                        InsuredPerson.builder().firstName("Jack").secondName("Doe").premium(new BigDecimal("15.90")).build()))
+                .build());
+        return policyId;
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.policymanagement.policymanagementservice.service;
+
+import com.policymanagement.policymanagementservice.config.CacheConfig;
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.domain.PolicyVersionInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PolicyTimelineCacheTest {
+
+    private static final List<PolicyVersionInfo> TIMELINE = List.of(
+            new PolicyVersionInfo(3L, LocalDate.of(2023, 6, 1)),
+            new PolicyVersionInfo(2L, LocalDate.of(2023, 1, 1)),
+            new PolicyVersionInfo(1L, LocalDate.of(2022, 4, 3)));
+
+    private PolicyTimelineCache cache;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger timelineLoads;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PolicyTimelineCache(new CacheConfig(), meterRegistry);
+        timelineLoads = new AtomicInteger();
+    }
+
+    private List<PolicyVersionInfo> loadTimeline(String policyId) {
+        timelineLoads.incrementAndGet();
+        return TIMELINE;
+    }
+
+    @Test
+    void findEffectiveVersionResolvesAnyDateFromOneLoad() {
+        assertThat(cache.findEffectiveVersion("CU423DF89", LocalDate.of(2023, 10, 3), this::loadTimeline)).contains(3L);
+        assertThat(cache.findEffectiveVersion("CU423DF89", LocalDate.of(2023, 6, 1), this::loadTimeline)).contains(2L);
+        assertThat(cache.findEffectiveVersion("CU423DF89", LocalDate.of(2022, 5, 1), this::loadTimeline)).contains(1L);
+        assertThat(cache.findEffectiveVersion("CU423DF89", LocalDate.of(2022, 4, 3), this::loadTimeline)).isEmpty();
+
+        assertThat(timelineLoads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "policyTimelines").tag("result", "hit").functionCounter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void invalidateReloadsTimeline() {
+        cache.findEffectiveVersion("CU423DF89", LocalDate.of(2023, 10, 3), this::loadTimeline);
+        cache.invalidate("CU423DF89");
+        cache.findEffectiveVersion("CU423DF89", LocalDate.of(2023, 10, 3), this::loadTimeline);
+
+        assertThat(timelineLoads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void emptyTimelineIsNotCached() {
+        cache.findEffectiveVersion("CU423DF89", LocalDate.of(2023, 10, 3), policyId -> {
+            timelineLoads.incrementAndGet();
+            return Collections.emptyList();
+        });
+        var version = cache.findEffectiveVersion("CU423DF89", LocalDate.of(2023, 10, 3), this::loadTimeline);
+
+        assertThat(version).contains(3L);
+        assertThat(timelineLoads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void insuredPersonsOfVersionAreLoadedOnce() {
+        var persons = List.of(InsuredPerson.builder().id(1L).firstName("Jane").secondName("Johnson").premium(BigDecimal.valueOf(12.90)).build());
+        var personLoads = new AtomicInteger();
+
+        cache.getInsuredPersons("CU423DF89", 3L, () -> {
+            personLoads.incrementAndGet();
+            return persons;
+        });
+        var cachedPersons = cache.getInsuredPersons("CU423DF89", 3L, () -> {
+            personLoads.incrementAndGet();
+            return persons;
+        });
+
+        assertThat(cachedPersons).isEqualTo(persons);
+        assertThat(personLoads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidateVersionReloadsTimelineAndPersonsOfVersion() {
+        var persons = List.of(InsuredPerson.builder().id(1L).firstName("Jane").secondName("Johnson").premium(BigDecimal.valueOf(12.90)).build());
+        var personLoads = new AtomicInteger();
+
+        cache.findEffectiveVersion("CU423DF89", LocalDate.of(2023, 10, 3), this::loadTimeline);
+        cache.getInsuredPersons("CU423DF89", 3L, () -> {
+            personLoads.incrementAndGet();
+            return persons;
+        });
+        cache.invalidateVersion("CU423DF89", 3L);
+        cache.findEffectiveVersion("CU423DF89", LocalDate.of(2023, 10, 3), this::loadTimeline);
+        cache.getInsuredPersons("CU423DF89", 3L, () -> {
+            personLoads.incrementAndGet();
+            return persons;
+        });
+
+        assertThat(timelineLoads.get()).isEqualTo(2);
+        assertThat(personLoads.get()).isEqualTo(2);
+    }
+}
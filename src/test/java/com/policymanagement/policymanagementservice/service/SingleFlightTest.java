@@ -0,0 +1,179 @@
+package com.policymanagement.policymanagementservice.service;
+
+import com.policymanagement.policymanagementservice.exception.NoDataException;
+import com.policymanagement.policymanagementservice.exception.PolicyReadTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String, String> calls;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        calls = new SingleFlight<>("info", new PolicyMetrics(meterRegistry));
+    }
+
+    private double coalescedCalls(String role) {
+        return meterRegistry.get("policy.coalescing.calls").tag("operation", "info").tag("role", role).counter().count();
+    }
+
+    private void awaitFollowers(int followers) throws InterruptedException {
+        for (var attempt = 0; attempt < 500 && (meterRegistry.find("policy.coalescing.calls").tag("role", "follower").counter() == null
+                || coalescedCalls("follower") < followers); attempt++) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void testExecute_concurrentCallsShareOneRead() throws Exception {
+        var reads = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var followers = 9;
+
+        try (var executor = Executors.newFixedThreadPool(followers + 1)) {
+            var results = new ArrayList<Future<String>>();
+            results.add(executor.submit(() -> calls.execute("CU423DF89", TIMEOUT, () -> {
+                reads.incrementAndGet();
+                started.countDown();
+                awaitQuietly(release);
+                return "policy";
+            })));
+            awaitQuietly(started);
+            for (var i = 0; i < followers; i++) {
+                results.add(executor.submit(() -> calls.execute("CU423DF89", TIMEOUT, () -> {
+                    reads.incrementAndGet();
+                    return "policy";
+                })));
+            }
+            awaitFollowers(followers);
+            release.countDown();
+
+            for (var result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("policy");
+            }
+        }
+
+        assertThat(reads).hasValue(1);
+        assertThat(coalescedCalls("leader")).isEqualTo(1);
+        assertThat(coalescedCalls("follower")).isEqualTo(followers);
+    }
+
+    @Test
+    public void testExecute_sequentialCallsReadAgain() {
+        var reads = new AtomicInteger();
+
+        calls.execute("CU423DF89", TIMEOUT, () -> String.valueOf(reads.incrementAndGet()));
+        calls.execute("CU423DF89", TIMEOUT, () -> String.valueOf(reads.incrementAndGet()));
+
+        assertThat(reads).hasValue(2);
+        assertThat(coalescedCalls("leader")).isEqualTo(2);
+    }
+
+    @Test
+    public void testExecute_followerGetsExceptionOfTheRead() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var leader = executor.submit(() -> calls.execute("CU423DF89", TIMEOUT, () -> {
+                started.countDown();
+                awaitQuietly(release);
+                throw new NoDataException();
+            }));
+            awaitQuietly(started);
+            var follower = executor.submit(() -> calls.execute("CU423DF89", TIMEOUT, () -> "policy"));
+            awaitFollowers(1);
+            release.countDown();
+
+            assertThatThrownBy(leader::get).hasCauseInstanceOf(NoDataException.class);
+            assertThatThrownBy(follower::get).hasCauseInstanceOf(NoDataException.class);
+        }
+    }
+
+    @Test
+    public void testExecute_followerTimesOutOnItsOwnDeadline() throws Exception {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(2)) {
+            var leader = executor.submit(() -> calls.execute("CU423DF89", TIMEOUT, () -> {
+                started.countDown();
+                awaitQuietly(release);
+                return "policy";
+            }));
+            awaitQuietly(started);
+            var follower = executor.submit(() -> calls.execute("CU423DF89", Duration.ofMillis(50), () -> "policy"));
+
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(PolicyReadTimeoutException.class);
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("policy");
+        }
+    }
+
+    @Test
+    public void testExecute_leaderTimesOutOnItsOwnDeadline() {
+        var release = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> calls.execute("CU423DF89", Duration.ofMillis(50), () -> {
+            awaitQuietly(release);
+            return "policy";
+        })).isInstanceOf(PolicyReadTimeoutException.class);
+        release.countDown();
+    }
+
+    @Test
+    public void testExecute_forgottenCallIsNotJoined() throws Exception {
+        var reads = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(1)) {
+            var leader = executor.submit(() -> calls.execute("CU423DF89", TIMEOUT, () -> {
+                reads.incrementAndGet();
+                started.countDown();
+                awaitQuietly(release);
+                return "old";
+            }));
+            awaitQuietly(started);
+            calls.forget(key -> key.equals("CU423DF89"));
+
+            var value = calls.execute("CU423DF89", TIMEOUT, () -> {
+                reads.incrementAndGet();
+                return "new";
+            });
+            release.countDown();
+
+            assertThat(value).isEqualTo("new");
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("old");
+        }
+
+        assertThat(reads).hasValue(2);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.policymanagement.policymanagementservice.service.async;
+
+import com.policymanagement.policymanagementservice.config.AsyncWriteConfig;
+import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.data.request.PolicyUpdateRequestData;
+import com.policymanagement.policymanagementservice.data.response.AsyncWriteResponse;
+import com.policymanagement.policymanagementservice.data.response.AsyncWriteResponse.AsyncWriteState;
+import com.policymanagement.policymanagementservice.data.response.PolicyBatchItemResponse;
+import com.policymanagement.policymanagementservice.data.response.PolicyCreateResponse;
+import com.policymanagement.policymanagementservice.data.response.PolicyUpdateResponse;
+import com.policymanagement.policymanagementservice.service.PolicyDataService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class AsyncPolicyWriterTest {
+
+    private final AsyncPolicyWriter writer = new AsyncPolicyWriter();
+
+    @BeforeEach
+    void setUp() {
+        writer.service = Mockito.mock(PolicyDataService.class);
+        writer.asyncWriteConfig = new AsyncWriteConfig();
+        writer.meterRegistry = new SimpleMeterRegistry();
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.stop();
+    }
+
+    private static AsyncPolicyWriter.PolicyWriteRequest create(String requestId, String policyId) {
+        return new AsyncPolicyWriter.PolicyWriteRequest(requestId, policyId,
+                PolicyCreateRequestData.builder().startDate("01.01.2099").build(), null);
+    }
+
+    private static AsyncPolicyWriter.PolicyWriteRequest update(String requestId, String policyId, String effectiveDate) {
+        return new AsyncPolicyWriter.PolicyWriteRequest(requestId, policyId, null,
+                PolicyUpdateRequestData.builder().policyId(policyId).effectiveDate(effectiveDate).build());
+    }
+
+    @Test
+    void testFailedBatch_retriedOneByOneSoOnlyTheBadCreateFails() {
+        var good = create("good", "AAAAAAAA1");
+        var bad = create("bad", "AAAAAAAA2");
+        Mockito.when(writer.service.createNewPolicies(Mockito.argThat(requests -> requests.size() > 1), Mockito.any()))
+                .thenThrow(new NullPointerException());
+        Mockito.when(writer.service.createNewPolicies(List.of(good.create()), List.of("AAAAAAAA1")))
+                .thenReturn(List.of(PolicyBatchItemResponse.builder()
+                        .status(201)
+                        .policy(PolicyCreateResponse.builder().policyId("AAAAAAAA1").build())
+                        .build()));
+        Mockito.when(writer.service.createNewPolicies(List.of(bad.create()), List.of("AAAAAAAA2")))
+                .thenThrow(new NullPointerException());
+
+        writer.process(List.of(good, bad));
+
+        Assertions.assertThat(writer.getStatus("good")).map(AsyncWriteResponse::getState).contains(AsyncWriteState.COMPLETED);
+        Assertions.assertThat(writer.getStatus("bad")).map(AsyncWriteResponse::getStatus).contains(500);
+    }
+
+    @Test
+    void testUpdates_otherPoliciesAreNotBlockedAndOnePolicyKeepsItsOrder() {
+        var first = update("first", "AAAAAAAA1", "01.01.2099");
+        var second = update("second", "AAAAAAAA1", "01.02.2099");
+        var other = update("other", "AAAAAAAA2", "01.01.2099");
+        var otherStored = new CountDownLatch(1);
+        Mockito.when(writer.service.addPolicyUpdate(first.update())).thenAnswer(invocation -> {
+            Assertions.assertThat(otherStored.await(5, TimeUnit.SECONDS)).isTrue();
+            return PolicyUpdateResponse.builder().policyId("AAAAAAAA1").build();
+        });
+        Mockito.when(writer.service.addPolicyUpdate(other.update())).thenAnswer(invocation -> {
+            otherStored.countDown();
+            return PolicyUpdateResponse.builder().policyId("AAAAAAAA2").build();
+        });
+
+        writer.process(List.of(first, second, other));
+
+        var inOrder = Mockito.inOrder(writer.service);
+        inOrder.verify(writer.service).addPolicyUpdate(first.update());
+        inOrder.verify(writer.service).addPolicyUpdate(second.update());
+        Assertions.assertThat(writer.getStatus("first")).map(AsyncWriteResponse::getState).contains(AsyncWriteState.COMPLETED);
+        Assertions.assertThat(writer.getStatus("other")).map(AsyncWriteResponse::getState).contains(AsyncWriteState.COMPLETED);
+    }
+
+    @Test
+    void testAcceptedStatuses_areNotEvictedBeforeTheyAreStored() throws InterruptedException {
+        writer.stop();
+        writer.asyncWriteConfig.setMaximumStatuses(1);
+        writer.start();
+        var release = new CountDownLatch(1);
+        Mockito.when(writer.service.addPolicyUpdate(Mockito.any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return PolicyUpdateResponse.builder().build();
+        });
+
+        var accepted = List.of(
+                writer.submitUpdate(PolicyUpdateRequestData.builder().policyId("AAAAAAAA1").build()),
+                writer.submitUpdate(PolicyUpdateRequestData.builder().policyId("AAAAAAAA2").build()),
+                writer.submitUpdate(PolicyUpdateRequestData.builder().policyId("AAAAAAAA3").build()));
+
+        Assertions.assertThat(accepted).allSatisfy(response -> Assertions.assertThat(writer.getStatus(response.getRequestId())).isPresent());
+        release.countDown();
+    }
+
+}
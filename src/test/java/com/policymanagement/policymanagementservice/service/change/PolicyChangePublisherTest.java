@@ -0,0 +1,121 @@
+package com.policymanagement.policymanagementservice.service.change;
+
+import com.policymanagement.policymanagementservice.MongoContainerTest;
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.data.response.PolicyChangeEvent;
+import com.policymanagement.policymanagementservice.repository.ChangeStreamTokenRepository;
+import com.policymanagement.policymanagementservice.service.PolicyDataService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.policymanagement.policymanagementservice.service.PolicyTestFixtures.createPolicyWithUpdate;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers(disabledWithoutDocker = true)
+class PolicyChangePublisherTest extends MongoContainerTest {
+
+    @Autowired
+    private PolicyDataService service;
+
+    @Autowired
+    private PolicyChangePublisher publisher;
+
+    @Autowired
+    private ChangeStreamTokenRepository tokenRepository;
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("policy.change-stream.enabled", () -> "true");
+        registry.add("policy.change-stream.resume-token-save-interval", () -> "0s");
+    }
+
+    @BeforeEach
+    void awaitChangeStream() throws InterruptedException {
+        for (var attempt = 0; attempt < 100 && tokenRepository.findById("policy_change").isEmpty(); attempt++) {
+            Thread.sleep(100);
+        }
+        Assertions.assertThat(tokenRepository.findById("policy_change")).isPresent();
+    }
+
+    @Test
+    void testListener_OneEventPerPolicyVersion() throws Exception {
+        var events = new LinkedBlockingQueue<PolicyChangeEvent>();
+        PolicyChangeListener listener = events::add;
+        publisher.addListener(listener);
+        try {
+            var policyId = createPolicyWithUpdate(service);
+
+            var first = events.poll(10, TimeUnit.SECONDS);
+            var second = events.poll(10, TimeUnit.SECONDS);
+
+            Assertions.assertThat(first).isEqualTo(new PolicyChangeEvent(policyId, 1L, "01.01.2099", 1));
+            Assertions.assertThat(second).isEqualTo(new PolicyChangeEvent(policyId, 2L, "01.02.2099", 2));
+        } finally {
+            publisher.removeListener(listener);
+        }
+    }
+
+    @Test
+    void testListener_OneEventForAVersionLargerThanAChangeStreamBatch() throws Exception {
+        var events = new LinkedBlockingQueue<PolicyChangeEvent>();
+        PolicyChangeListener listener = events::add;
+        publisher.addListener(listener);
+        try {
+            var persons = IntStream.range(0, 1500)
+                    .mapToObj(person -> InsuredPerson.builder().firstName("Jane").secondName("Johnson").premium(new BigDecimal("12.90")).build())
+                    .toList();
+            var policyId = service.createNewPolicy(PolicyCreateRequestData.builder()
+                    .startDate("01.01.2099")
+                    .insuredPersons(persons)
+                    .build()).getPolicyId();
+
+            Assertions.assertThat(events.poll(10, TimeUnit.SECONDS)).isEqualTo(new PolicyChangeEvent(policyId, 1L, "01.01.2099", 1500));
+            Assertions.assertThat(events.poll(2, TimeUnit.SECONDS)).isNull();
+        } finally {
+            publisher.removeListener(listener);
+        }
+    }
+
+    @Test
+    void testSseEndpoint_StreamsChangesOfThePolicy() throws Exception {
+        var received = new CompletableFuture<String>();
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/policies/changes")).build();
+        var listeners = publisher.listenerCount();
+        var response = HttpClient.newHttpClient().sendAsync(request, HttpResponse.BodyHandlers.ofLines());
+        for (var attempt = 0; attempt < 100 && publisher.listenerCount() == listeners; attempt++) {
+            Thread.sleep(50);
+        }
+        Assertions.assertThat(publisher.listenerCount()).isGreaterThan(listeners);
+
+        var policyId = createPolicyWithUpdate(service);
+        response.thenAcceptAsync(lines -> lines
+                .filter(line -> line.startsWith("data:") && line.contains(policyId) && line.contains("\"policyVersion\":2"))
+                .findFirst()
+                .ifPresent(received::complete));
+
+        Assertions.assertThat(received.get(10, TimeUnit.SECONDS)).contains("\"insuredPersons\":2");
+        response.cancel(true);
+    }
+
+}
@@ -0,0 +1,206 @@
+package com.policymanagement.policymanagementservice.service.id;
+
+import com.policymanagement.policymanagementservice.config.IdConfig;
+import com.policymanagement.policymanagementservice.repository.PolicyIdSequenceRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+class PolicyIdGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 250_000;
+    private static final String ID_PATTERN = "[0-9A-Z]{9}";
+
+    private static Set<String> generateConcurrently(Supplier<String> generator, int threads, int idsPerThread) throws Exception {
+        var ids = ConcurrentHashMap.<String>newKeySet();
+        try (var executor = Executors.newFixedThreadPool(threads)) {
+            var futures = new ArrayList<Future<Integer>>();
+            for (var thread = 0; thread < threads; thread++) {
+                futures.add(executor.submit(() -> {
+                    var duplicates = 0;
+                    for (var i = 0; i < idsPerThread; i++) {
+                        if (!ids.add(generator.get())) {
+                            duplicates++;
+                        }
+                    }
+                    return duplicates;
+                }));
+            }
+            for (var future : futures) {
+                Assertions.assertThat(future.get()).isZero();
+            }
+        }
+        return ids;
+    }
+
+    private static SequencePolicyIdGenerator sequenceGenerator(long blockSize, AtomicLong counter) {
+        var idConfig = new IdConfig();
+        idConfig.setBlockSize(blockSize);
+        var generator = new SequencePolicyIdGenerator();
+        generator.idConfig = idConfig;
+        generator.sequenceRepository = Mockito.mock(PolicyIdSequenceRepository.class);
+        Mockito.when(generator.sequenceRepository.allocateBlock(Mockito.anyString(), Mockito.anyLong()))
+                .thenAnswer(invocation -> counter.addAndGet(invocation.getArgument(1)));
+        return generator;
+    }
+
+    @Test
+    void testToBase36_NineUppercaseCharacters() {
+        Assertions.assertThat(PolicyIdGenerator.toBase36(0)).isEqualTo("000000000");
+        Assertions.assertThat(PolicyIdGenerator.toBase36(35)).isEqualTo("00000000Z");
+        Assertions.assertThat(PolicyIdGenerator.toBase36(PolicyIdGenerator.ID_SPACE - 1)).isEqualTo("ZZZZZZZZZ");
+        Assertions.assertThatThrownBy(() -> PolicyIdGenerator.toBase36(PolicyIdGenerator.ID_SPACE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testSequence_NoCollisionsAcrossThreads() throws Exception {
+        var counter = new AtomicLong();
+        var generator = sequenceGenerator(1000, counter);
+
+        var ids = generateConcurrently(generator::nextId, THREADS, IDS_PER_THREAD);
+
+        Assertions.assertThat(ids).hasSize(THREADS * IDS_PER_THREAD).allMatch(id -> id.matches(ID_PATTERN));
+        Mockito.verify(generator.sequenceRepository, Mockito.times(THREADS * IDS_PER_THREAD / 1000)).allocateBlock("policy_id", 1000);
+    }
+
+    @Test
+    void testSequence_InstancesSharingTheCounterDoNotCollide() {
+        var counter = new AtomicLong();
+        var first = sequenceGenerator(10, counter);
+        var second = sequenceGenerator(10, counter);
+
+        var ids = new ArrayList<String>();
+        for (var i = 0; i < 1000; i++) {
+            ids.add(first.nextId());
+            ids.add(second.nextId());
+        }
+
+        Assertions.assertThat(ids).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void testSnowflake_NoCollisionsAcrossThreads() throws Exception {
+        var millis = new AtomicLong(Instant.parse("2030-01-01T00:00:00Z").toEpochMilli());
+        var generator = new SnowflakePolicyIdGenerator(3, tickingClock(millis));
+
+        var ids = generateConcurrently(generator::nextId, THREADS, IDS_PER_THREAD);
+
+        Assertions.assertThat(ids).hasSize(THREADS * IDS_PER_THREAD).allMatch(id -> id.matches(ID_PATTERN));
+    }
+
+    @Test
+    void testSnowflake_TimeOrderedAndTolerantToClockGoingBackwards() {
+        var millis = new AtomicLong(Instant.parse("2030-01-01T00:00:00Z").toEpochMilli());
+        var generator = new SnowflakePolicyIdGenerator(0, tickingClock(millis));
+
+        var ids = new ArrayList<String>();
+        for (var i = 0; i < 5000; i++) {
+            ids.add(generator.nextId());
+            if (i == 2500) {
+                millis.addAndGet(-3_600_000);
+            }
+        }
+
+        Assertions.assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void testSnowflake_NodesDoNotCollideWithinTheSameSecond() {
+        var clock = Clock.fixed(Instant.parse("2030-01-01T00:00:00Z"), ZoneOffset.UTC);
+        var first = new SnowflakePolicyIdGenerator(1, clock);
+        var second = new SnowflakePolicyIdGenerator(2, clock);
+
+        var ids = new ArrayList<String>();
+        for (var i = 0; i <= SnowflakePolicyIdGenerator.MAX_SEQUENCE; i++) {
+            ids.add(first.nextId());
+            ids.add(second.nextId());
+        }
+
+        Assertions.assertThat(ids).doesNotHaveDuplicates();
+        Assertions.assertThatThrownBy(() -> new SnowflakePolicyIdGenerator(SnowflakePolicyIdGenerator.MAX_NODE_ID + 1, clock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testSnowflake_WaitsForNextSecondWhenSequenceIsExhausted() throws Exception {
+        var millis = new AtomicLong(Instant.parse("2030-01-01T00:00:00Z").toEpochMilli());
+        var generator = new SnowflakePolicyIdGenerator(0, stoppedClock(millis));
+        var ids = new ArrayList<String>();
+        for (var i = 0; i <= SnowflakePolicyIdGenerator.MAX_SEQUENCE; i++) {
+            ids.add(generator.nextId());
+        }
+
+        try (var executor = Executors.newSingleThreadExecutor()) {
+            var nextId = executor.submit(generator::nextId);
+            Thread.sleep(100);
+            Assertions.assertThat(nextId).isNotDone();
+
+            millis.addAndGet(1000);
+            ids.add(nextId.get(5, TimeUnit.SECONDS));
+        }
+
+        Assertions.assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void testRandom_Format() {
+        var generator = new RandomPolicyIdGenerator();
+
+        Assertions.assertThat(List.of(generator.nextId(), generator.nextId(), generator.nextId())).allMatch(id -> id.matches(ID_PATTERN));
+    }
+
+    private static Clock tickingClock(AtomicLong millis) {
+        return new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.getAndIncrement());
+            }
+        };
+    }
+
+    private static Clock stoppedClock(AtomicLong millis) {
+        return new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(millis.get());
+            }
+        };
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.policymanagement.policymanagementservice.service.id;
+
+import com.policymanagement.policymanagementservice.MongoContainerTest;
+import com.policymanagement.policymanagementservice.data.InsuredPerson;
+import com.policymanagement.policymanagementservice.data.request.PolicyCreateRequestData;
+import com.policymanagement.policymanagementservice.domain.PolicyHead;
+import com.policymanagement.policymanagementservice.repository.PolicyHeadRepository;
+import com.policymanagement.policymanagementservice.repository.PolicyIdSequenceRepository;
+import com.policymanagement.policymanagementservice.service.PolicyDataService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class SequencePolicyIdGeneratorTest extends MongoContainerTest {
+
+    @Autowired
+    private PolicyIdGenerator generator;
+
+    @Autowired
+    private PolicyDataService service;
+
+    @Autowired
+    private PolicyHeadRepository headRepository;
+
+    @Autowired
+    private PolicyIdSequenceRepository sequenceRepository;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("policy.id.generator", () -> "sequence");
+        registry.add("policy.id.block-size", () -> "100");
+    }
+
+    @Test
+    void testNextId_AllocatesBlocksFromTheSequenceDocument() {
+        var ids = ConcurrentHashMap.<String>newKeySet();
+        IntStream.range(0, 1000).parallel().forEach(i -> ids.add(generator.nextId()));
+
+        Assertions.assertThat(generator).isInstanceOf(SequencePolicyIdGenerator.class);
+        Assertions.assertThat(ids).hasSize(1000);
+        Assertions.assertThat(sequenceRepository.findById("policy_id")).get()
+                .satisfies(sequence -> Assertions.assertThat(sequence.getValue()).isGreaterThanOrEqualTo(1000).isLessThanOrEqualTo(1100));
+    }
+
+    @Test
+    void testCreateNewPolicy_SkipsIdsThatAreAlreadyTaken() {
+        var lastId = Long.parseLong(generator.nextId(), 36);
+        var takenId = PolicyIdGenerator.toBase36(lastId + 1);
+        headRepository.insert(PolicyHead.builder().policyId(takenId).policyVersion(1L).nextPersonId(1L).build());
+
+        var policyId = service.createNewPolicy(PolicyCreateRequestData.builder()
+                .startDate("01.01.2099")
+                .insuredPersons(List.of(InsuredPerson.builder().firstName("Jane").secondName("Johnson").premium(new BigDecimal("12.90")).build()))
+                .build()).getPolicyId();
+
+        Assertions.assertThat(policyId).isEqualTo(PolicyIdGenerator.toBase36(lastId + 2));
+        Assertions.assertThat(headRepository.findById(policyId)).get().extracting(PolicyHead::getStartDate).isNotNull();
+    }
+
+}
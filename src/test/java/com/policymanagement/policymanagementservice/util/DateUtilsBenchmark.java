@@ -0,0 +1,37 @@
+package com.policymanagement.policymanagementservice.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilsBenchmark {
+
+    private final String date = "15.03.2099";
+    private final LocalDate localDate = LocalDate.of(2099, 3, 15);
+
+    @Benchmark
+    public LocalDate stringToDate() {
+        return DateUtils.stringToDate(date);
+    }
+
+    @Benchmark
+    public String dateToString() {
+        return DateUtils.dateToString(localDate);
+    }
+
+}